@@ -0,0 +1,243 @@
+package eu.koboo.minestom.stomui.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Generates an AnnotationRenderer implementation for every component class, which declares
+ * methods annotated with Slot, SlotPosition or Rebuildable. The AnnotationRenderComponent
+ * discovers the generated classes by their name and uses them instead of reflection.
+ * <p>
+ * The annotated methods are validated at build time:
+ * - methods, which are not public or have parameters, fail the build
+ * - methods without a valid slot or without PrebuiltItem as return type are reported and ignored
+ * <p>
+ * Components, which are not accessible from their package (e.g. private nested classes),
+ * are skipped and still rendered at runtime.
+ * <p>
+ * Every generated file only depends on its component class, which is passed as originating element,
+ * so the processor is registered as isolating for the incremental compilation of Gradle.
+ */
+@SupportedAnnotationTypes({
+    AnnotationRenderProcessor.SLOT,
+    AnnotationRenderProcessor.SLOT_POSITION,
+    AnnotationRenderProcessor.REBUILDABLE
+})
+public final class AnnotationRenderProcessor extends AbstractProcessor {
+
+    static final String SLOT = "eu.koboo.minestom.stomui.api.annotations.Slot";
+    static final String SLOT_POSITION = "eu.koboo.minestom.stomui.api.annotations.SlotPosition";
+    static final String REBUILDABLE = "eu.koboo.minestom.stomui.api.annotations.Rebuildable";
+
+    private static final String VIEW_COMPONENT = "eu.koboo.minestom.stomui.api.component.ViewComponent";
+    private static final String PREBUILT_ITEM = "eu.koboo.minestom.stomui.api.item.PrebuiltItem";
+    private static final String ANNOTATION_RENDERER = "eu.koboo.minestom.stomui.api.annotations.AnnotationRenderer";
+    private static final String PLAYER_VIEW = "eu.koboo.minestom.stomui.api.PlayerView";
+    private static final String VIEW_ITEM = "eu.koboo.minestom.stomui.api.item.ViewItem";
+
+    // Needs to match AnnotationRenderer#GENERATED_SUFFIX.
+    private static final String GENERATED_SUFFIX = "$StomuiRenderer";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        // Collect all classes, which declare annotated methods.
+        Set<TypeElement> componentTypes = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnvironment.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.METHOD) {
+                    continue;
+                }
+                componentTypes.add((TypeElement) element.getEnclosingElement());
+            }
+        }
+        for (TypeElement componentType : componentTypes) {
+            generateRenderer(componentType);
+        }
+        // Don't claim the annotations, they are runtime annotations.
+        return false;
+    }
+
+    private void generateRenderer(TypeElement componentType) {
+        Messager messager = processingEnv.getMessager();
+        Elements elements = processingEnv.getElementUtils();
+        Types types = processingEnv.getTypeUtils();
+
+        TypeElement viewComponentElement = elements.getTypeElement(VIEW_COMPONENT);
+        TypeElement prebuiltItemElement = elements.getTypeElement(PREBUILT_ITEM);
+        if (viewComponentElement == null || prebuiltItemElement == null) {
+            // stomui is not on the classpath, nothing to generate.
+            return;
+        }
+        TypeMirror componentErasure = types.erasure(componentType.asType());
+        if (!types.isSubtype(componentErasure, types.erasure(viewComponentElement.asType()))) {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                "Class " + componentType.getQualifiedName() + " has annotated render methods, " +
+                    "but is not a ViewComponent. The methods are ignored.", componentType);
+            return;
+        }
+        if (!isAccessibleFromPackage(componentType)) {
+            messager.printMessage(Diagnostic.Kind.NOTE,
+                "Class " + componentType.getQualifiedName() + " is not accessible from its package, " +
+                    "so its annotated methods are rendered at runtime.", componentType);
+            return;
+        }
+
+        List<RenderMethod> openMethods = new ArrayList<>();
+        List<RenderMethod> rebuildMethods = new ArrayList<>();
+        boolean valid = true;
+        for (Element enclosedElement : componentType.getEnclosedElements()) {
+            if (enclosedElement.getKind() != ElementKind.METHOD) {
+                continue;
+            }
+            ExecutableElement method = (ExecutableElement) enclosedElement;
+            AnnotationMirror slotAnnotation = findAnnotation(method, SLOT);
+            AnnotationMirror slotPositionAnnotation = findAnnotation(method, SLOT_POSITION);
+            if (slotAnnotation == null && slotPositionAnnotation == null) {
+                continue;
+            }
+            String methodName = method.getSimpleName().toString();
+            int slot = slotAnnotation != null ? getIntValue(slotAnnotation, "value") : -1;
+            int row = slotPositionAnnotation != null ? getIntValue(slotPositionAnnotation, "row") : -1;
+            int column = slotPositionAnnotation != null ? getIntValue(slotPositionAnnotation, "column") : -1;
+            if (slot < 0 && (row < 0 || column < 0)) {
+                messager.printMessage(Diagnostic.Kind.WARNING,
+                    "PrebuiltItem method " + methodName + " has no valid slot and is ignored.", method);
+                continue;
+            }
+
+            // Same validation as the runtime rendering.
+            if (!method.getModifiers().contains(Modifier.PUBLIC)) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                    "PrebuiltItem method " + methodName + " is not public!", method);
+                valid = false;
+                continue;
+            }
+            if (!method.getParameters().isEmpty()) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                    "PrebuiltItem method " + methodName + " has method parameters!", method);
+                valid = false;
+                continue;
+            }
+            if (!types.isAssignable(method.getReturnType(), prebuiltItemElement.asType())) {
+                messager.printMessage(Diagnostic.Kind.WARNING,
+                    "PrebuiltItem method " + methodName + " doesn't return a PrebuiltItem and is ignored.", method);
+                continue;
+            }
+
+            boolean isStatic = method.getModifiers().contains(Modifier.STATIC);
+            RenderMethod renderMethod = new RenderMethod(methodName, isStatic, slot, row, column);
+            if (findAnnotation(method, REBUILDABLE) != null) {
+                rebuildMethods.add(renderMethod);
+                continue;
+            }
+            openMethods.add(renderMethod);
+        }
+        if (!valid) {
+            return;
+        }
+
+        String packageName = elements.getPackageOf(componentType).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(componentType).toString();
+        String rendererName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+            + GENERATED_SUFFIX;
+        String qualifiedRendererName = packageName.isEmpty() ? rendererName : packageName + "." + rendererName;
+        String componentName = componentErasure.toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        source.append("public final class ").append(rendererName)
+            .append(" implements ").append(ANNOTATION_RENDERER).append("<").append(componentName).append("> {\n\n");
+        source.append("    @Override\n");
+        source.append("    public void render(").append(componentName).append(" component, ")
+            .append(PLAYER_VIEW).append(" view, boolean rebuild) {\n");
+        source.append("        if (rebuild) {\n");
+        appendRenderMethods(source, componentName, rebuildMethods);
+        source.append("            return;\n");
+        source.append("        }\n");
+        appendRenderMethods(source, componentName, openMethods);
+        source.append("    }\n");
+        source.append("}\n");
+
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedRendererName, componentType);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                "Couldn't generate " + qualifiedRendererName + ": " + e.getMessage(), componentType);
+        }
+    }
+
+    private void appendRenderMethods(StringBuilder source, String componentName, List<RenderMethod> renderMethods) {
+        for (RenderMethod renderMethod : renderMethods) {
+            String slot = renderMethod.slot() > -1
+                ? String.valueOf(renderMethod.slot())
+                : "view.getType().toSlot(" + renderMethod.row() + ", " + renderMethod.column() + ")";
+            String receiver = renderMethod.isStatic() ? componentName : "component";
+            source.append("            ").append(VIEW_ITEM).append(".bySlot(view, ").append(slot).append(")\n");
+            source.append("                .applyPrebuilt(").append(receiver).append(".")
+                .append(renderMethod.name()).append("());\n");
+        }
+    }
+
+    private boolean isAccessibleFromPackage(TypeElement type) {
+        Element element = type;
+        while (element instanceof TypeElement typeElement) {
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            // Local and anonymous classes can't be referenced.
+            if (typeElement.getNestingKind() == NestingKind.LOCAL
+                || typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            element = typeElement.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            Element annotationElement = annotationMirror.getAnnotationType().asElement();
+            if (((TypeElement) annotationElement).getQualifiedName().contentEquals(annotationName)) {
+                return annotationMirror;
+            }
+        }
+        return null;
+    }
+
+    private int getIntValue(AnnotationMirror annotationMirror, String name) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+            processingEnv.getElementUtils().getElementValuesWithDefaults(annotationMirror);
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return (Integer) entry.getValue().getValue();
+            }
+        }
+        return -1;
+    }
+
+    private record RenderMethod(String name, boolean isStatic, int slot, int row, int column) {
+    }
+}
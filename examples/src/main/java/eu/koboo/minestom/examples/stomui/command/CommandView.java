@@ -12,6 +12,7 @@ import eu.koboo.minestom.examples.stomui.views.other.AllowInteractionExampleProv
 import eu.koboo.minestom.examples.stomui.views.other.AnnotatedTabExampleProvider;
 import eu.koboo.minestom.examples.stomui.views.other.AnvilInputExampleProvider;
 import eu.koboo.minestom.examples.stomui.views.pagination.AsyncPageableExampleProvider;
+import eu.koboo.minestom.examples.stomui.views.pagination.LazyPageableExampleProvider;
 import eu.koboo.minestom.examples.stomui.views.pagination.PageableExampleProvider;
 import eu.koboo.minestom.examples.stomui.views.pagination.ScrollableHorizontalExampleProvider;
 import eu.koboo.minestom.examples.stomui.views.pagination.ScrollableVerticalExampleProvider;
@@ -48,6 +49,7 @@ public final class CommandView {
         put("counter", CounterExampleProvider::new);
         put("time", CurrentTimeExampleProvider::new);
         put("asyncpage", AsyncPageableExampleProvider::new);
+        put("lazypage", LazyPageableExampleProvider::new);
     }};
 
     ViewRegistry registry;
@@ -2,7 +2,7 @@ package eu.koboo.minestom.examples.stomui.views.pagination;
 
 import eu.koboo.minestom.examples.stomui.views.pagination.components.PaginationActionButtons;
 import eu.koboo.minestom.examples.stomui.views.pagination.components.PaginationBorder;
-import eu.koboo.minestom.examples.stomui.views.pagination.renderer.MaterialItemRenderer;
+import eu.koboo.minestom.examples.stomui.views.pagination.renderer.DelayedMaterialItemRenderer;
 import eu.koboo.minestom.stomui.api.PlayerView;
 import eu.koboo.minestom.stomui.api.ViewBuilder;
 import eu.koboo.minestom.stomui.api.ViewRegistry;
@@ -42,10 +42,11 @@ public class AsyncPageableExampleProvider extends ViewProvider {
             "##<###>##"
         );
         pagination = registry.pageable(
-            new MaterialItemRenderer(),
+            new DelayedMaterialItemRenderer(),
             ItemStack.AIR,
             pattern.getMergedSlots('1')
         );
+        pagination.setPlaceholderItem(ItemStack.of(Material.GRAY_STAINED_GLASS_PANE));
         pagination.setItemSorter(Comparator.comparing(Material::id));
         addChild(pagination);
         addChild(new PaginationActionButtons(pagination, pattern));
@@ -0,0 +1,85 @@
+package eu.koboo.minestom.examples.stomui.views.pagination;
+
+import eu.koboo.minestom.examples.stomui.views.pagination.components.PaginationActionButtons;
+import eu.koboo.minestom.examples.stomui.views.pagination.components.PaginationBorder;
+import eu.koboo.minestom.examples.stomui.views.pagination.renderer.MaterialItemRenderer;
+import eu.koboo.minestom.stomui.api.ViewBuilder;
+import eu.koboo.minestom.stomui.api.ViewRegistry;
+import eu.koboo.minestom.stomui.api.ViewType;
+import eu.koboo.minestom.stomui.api.component.ViewProvider;
+import eu.koboo.minestom.stomui.api.pagination.DataSource;
+import eu.koboo.minestom.stomui.api.pagination.ViewPagination;
+import eu.koboo.minestom.stomui.api.slots.ViewPattern;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import net.minestom.server.entity.Player;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.Material;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class LazyPageableExampleProvider extends ViewProvider {
+
+    ViewPagination<Material> pagination;
+
+    public LazyPageableExampleProvider(ViewRegistry registry) {
+        super(registry, ViewType.SIZE_6_X_9);
+        addChild(new PaginationBorder());
+        ViewPattern pattern = registry.pattern(
+            "K#######Z",
+            "#1111111#",
+            "#1111111#",
+            "#1111111#",
+            "#1111111#",
+            "##<###>##"
+        );
+        // Only the displayed page and its neighbour pages are fetched
+        // from the data source, instead of adding all items up front.
+        pagination = registry.pageable(
+            new SlowMaterialDataSource(),
+            new MaterialItemRenderer(),
+            ItemStack.AIR,
+            pattern.getMergedSlots('1'),
+            1,
+            8
+        );
+        addChild(pagination);
+        addChild(new PaginationActionButtons(pagination, pattern));
+    }
+
+    @Override
+    public void modifyBuilder(@NotNull ViewBuilder viewBuilder, @NotNull Player player) {
+        viewBuilder.title("<red>Lazy pageable");
+    }
+
+    // Imagine a database, which is queried for a slice of the items.
+    private static final class SlowMaterialDataSource implements DataSource<Material> {
+
+        private static final List<Material> MATERIALS = Material.values().stream()
+            .sorted(Comparator.comparing(Material::id))
+            .toList();
+        private static final Executor DELAYED_EXECUTOR = CompletableFuture.delayedExecutor(500, TimeUnit.MILLISECONDS);
+
+        @Override
+        public @NotNull CompletableFuture<List<Material>> fetch(int offset, int limit) {
+            return CompletableFuture.supplyAsync(() -> {
+                int end = Math.min(offset + limit, MATERIALS.size());
+                if (offset >= end) {
+                    return List.of();
+                }
+                return MATERIALS.subList(offset, end);
+            }, DELAYED_EXECUTOR);
+        }
+
+        @Override
+        public @NotNull CompletableFuture<Integer> count() {
+            return CompletableFuture.supplyAsync(MATERIALS::size, DELAYED_EXECUTOR);
+        }
+    }
+}
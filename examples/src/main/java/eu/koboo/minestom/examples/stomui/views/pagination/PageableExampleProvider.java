@@ -7,6 +7,7 @@ import eu.koboo.minestom.stomui.api.ViewBuilder;
 import eu.koboo.minestom.stomui.api.ViewRegistry;
 import eu.koboo.minestom.stomui.api.ViewType;
 import eu.koboo.minestom.stomui.api.component.ViewProvider;
+import eu.koboo.minestom.stomui.api.pagination.CachingItemRenderer;
 import eu.koboo.minestom.stomui.api.pagination.ViewPagination;
 import eu.koboo.minestom.stomui.api.slots.ViewPattern;
 import lombok.AccessLevel;
@@ -38,7 +39,8 @@ public class PageableExampleProvider extends ViewProvider {
             "##<###>##"
         );
         ViewPagination<Material> pagination = registry.pageable(
-            new MaterialItemRenderer(),
+            // Materials never change, so they are cached by themselves.
+            CachingItemRenderer.of(new MaterialItemRenderer(), material -> material, 512),
             ItemStack.AIR,
             pattern.getMergedSlots('1')
         );
@@ -21,7 +21,8 @@ public class PaginationActionButtons extends ViewComponent {
     public PaginationActionButtons(ViewPagination<Material> pagination, ViewPattern pattern) {
         this.pagination = pagination;
         this.pattern = pattern;
-        addChild(pagination);
+        // The buttons display the current page, so they are rebuilt on every page switch.
+        pagination.addPageControl(this);
     }
 
     @Override
@@ -29,8 +30,8 @@ public class PaginationActionButtons extends ViewComponent {
         // Sets the "previous" and "next" page buttons, based on the current page.
         // That's why these items are set in "onStateUpdate" instead of "onOpen".
 
-        String nextName = "<green>Next (" + pagination.getNextPage() + ")";
-        if (!pagination.hasNextPage()) {
+        String nextName = "<green>Next (" + pagination.getNextPage(view) + ")";
+        if (!pagination.hasNextPage(view)) {
             nextName = "<red> No next page";
         }
         ViewItem.bySlot(view, pattern.getSlot('>'))
@@ -38,8 +39,8 @@ public class PaginationActionButtons extends ViewComponent {
             .name(nextName)
             .interaction(Interactions.toNextPage(pagination));
 
-        String previousName = "<green>Previous (" + pagination.getPreviousPage() + ")";
-        if (!pagination.hasPreviousPage()) {
+        String previousName = "<green>Previous (" + pagination.getPreviousPage(view) + ")";
+        if (!pagination.hasPreviousPage(view)) {
             previousName = "<red>No previous page";
         }
         ViewItem.bySlot(view, pattern.getSlot('<'))
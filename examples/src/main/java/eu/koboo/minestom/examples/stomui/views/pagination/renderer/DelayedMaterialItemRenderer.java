@@ -0,0 +1,33 @@
+package eu.koboo.minestom.examples.stomui.views.pagination.renderer;
+
+import eu.koboo.minestom.stomui.api.item.PrebuiltItem;
+import eu.koboo.minestom.stomui.api.pagination.ItemRenderer;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.Material;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class DelayedMaterialItemRenderer implements ItemRenderer<Material> {
+
+    @Override
+    public PrebuiltItem render(Material material) {
+        return PrebuiltItem.of(ItemStack.of(material));
+    }
+
+    @Override
+    public @NotNull CompletableFuture<List<PrebuiltItem>> renderPage(@NotNull List<Material> materials) {
+        // Imagine a single database query for the whole page here.
+        // Until it completes, the pagination displays its placeholder item.
+        return CompletableFuture.supplyAsync(() -> {
+            List<PrebuiltItem> prebuiltItemList = new ArrayList<>(materials.size());
+            for (Material material : materials) {
+                prebuiltItemList.add(render(material));
+            }
+            return prebuiltItemList;
+        }, CompletableFuture.delayedExecutor(500, TimeUnit.MILLISECONDS));
+    }
+}
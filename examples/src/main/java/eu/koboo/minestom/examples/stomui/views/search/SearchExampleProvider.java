@@ -55,6 +55,9 @@ public class SearchExampleProvider extends ViewProvider implements AnvilInputInt
         pagination.setItemFilter(filter);
         pagination.addItems(ALL_MATERIALS);
         addChild(pagination);
+        // The navigation buttons and the amount are rendered by this provider,
+        // so it's rebuilt together with the page.
+        pagination.addPageControl(this);
     }
 
     @Override
@@ -81,24 +84,27 @@ public class SearchExampleProvider extends ViewProvider implements AnvilInputInt
 
     @Override
     public void onRebuild(@NotNull PlayerView view, @NotNull Player player) {
-        String nextName = "<green>Next (" + pagination.getNextPage() + ")";
-        if (!pagination.hasNextPage()) {
+        String nextName = "<green>Next (" + pagination.getNextPage(view) + ")";
+        if (!pagination.hasNextPage(view)) {
             nextName = "<red> No next page";
         }
+        // All modifications within edit are written into the slot at once.
+        String finalNextName = nextName;
         ViewItem.bySlot(view, pattern.getSlot('>'))
-            .material(Material.ARROW)
-            .name(nextName)
-            .glint(pagination.hasNextPage())
+            .edit(edit -> edit.material(Material.ARROW)
+                .name(finalNextName)
+                .glint(pagination.hasNextPage(view)))
             .interaction(Interactions.toNextPage(pagination));
 
-        String previousName = "<green>Previous (" + pagination.getPreviousPage() + ")";
-        if (!pagination.hasPreviousPage()) {
+        String previousName = "<green>Previous (" + pagination.getPreviousPage(view) + ")";
+        if (!pagination.hasPreviousPage(view)) {
             previousName = "<red>No previous page";
         }
+        String finalPreviousName = previousName;
         ViewItem.bySlot(view, pattern.getSlot('<'))
-            .material(Material.ARROW)
-            .name(previousName)
-            .glint(pagination.hasPreviousPage())
+            .edit(edit -> edit.material(Material.ARROW)
+                .name(finalPreviousName)
+                .glint(pagination.hasPreviousPage(view)))
             .interaction(Interactions.toPreviousPage(pagination));
 
         ViewItem.bySlot(view, pattern.getSlot('A'))
@@ -111,6 +117,7 @@ public class SearchExampleProvider extends ViewProvider implements AnvilInputInt
     public void onAnvilInput(@NotNull PlayerView playerView, @NotNull Player player, @NotNull String searchInput) {
         player.sendMessage("Received input: " + searchInput);
         filter.setTextInput(searchInput);
+        pagination.refilterItems();
         pagination.refreshPage(playerView);
     }
 }
@@ -3,13 +3,16 @@ package eu.koboo.minestom.stomui.api;
 import eu.koboo.minestom.stomui.api.component.ViewComponent;
 import eu.koboo.minestom.stomui.api.component.ViewProvider;
 import eu.koboo.minestom.stomui.api.flags.Flag;
+import eu.koboo.minestom.stomui.api.flags.Flags;
 import eu.koboo.minestom.stomui.api.interaction.Interaction;
+import eu.koboo.minestom.stomui.api.state.ViewState;
 import eu.koboo.minestom.stomui.core.CorePlayerView;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.minestom.server.entity.Player;
 import net.minestom.server.inventory.Inventory;
 import net.minestom.server.inventory.PlayerInventory;
+import net.minestom.server.inventory.click.Click;
 import net.minestom.server.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
@@ -46,6 +49,16 @@ public interface PlayerView {
      */
     @NotNull ViewProvider getProvider();
 
+    /**
+     * Returns the state of this {@link PlayerView}, which holds all per-viewer values
+     * of the components, like the current page of a pagination.
+     * Components should store their per-viewer state in it, so a single component tree
+     * can be shared by all {@link PlayerView}s.
+     *
+     * @return The {@link ViewState} of this {@link PlayerView}.
+     */
+    @NotNull ViewState getState();
+
     /**
      * @return The instance of the {@link Inventory}, which is the open top-inventory.
      * Created by the configured {@link PlayerView#getType()}
@@ -65,6 +78,16 @@ public interface PlayerView {
      */
     void addFlags(@NotNull Flag... flags);
 
+    /**
+     * Checks if the view has the provided {@link Flag}.
+     * This check is a single bitmask comparison, so prefer it
+     * over {@link PlayerView#hasFlags(Flag...)} for a single {@link Flag}.
+     *
+     * @param flag The {@link Flag}, which should be checked.
+     * @return true, if the view contains the {@link Flag}.
+     */
+    boolean hasFlag(@NotNull Flag flag);
+
     /**
      * Checks if the view has all provided {@link Flag}s.
      *
@@ -80,6 +103,15 @@ public interface PlayerView {
      */
     void removeFlags(@NotNull Flag... flags);
 
+    /**
+     * Checks if the given {@link Click} type was disabled,
+     * using {@link ViewBuilder#disableClickTypes(Class[])}.
+     *
+     * @param clickType The class of the {@link Click} type.
+     * @return true, if clicks of the given type are cancelled.
+     */
+    boolean isClickTypeDisabled(@NotNull Class<? extends Click> clickType);
+
     /**
      * Sets the interaction on a specific raw slot.
      * The raw slot supports slots of the top- and the bottom-inventory.
@@ -92,6 +124,8 @@ public interface PlayerView {
     /**
      * Sets the {@link ItemStack} on a specific raw slot.
      * The raw slot supports slots of the top- and the bottom-inventory.
+     * If called while the view is opening or rebuilding, the {@link ItemStack} is
+     * only sent to the client, after all components are done.
      *
      * @param rawSlot   The slot you want to set.
      * @param itemStack The {@link ItemStack}, which gets set in the given slot.
@@ -116,6 +150,29 @@ public interface PlayerView {
      */
     @NotNull Interaction getInteraction(int rawSlot);
 
+    /**
+     * Returns the remaining click cooldown of the given raw slot.
+     * It covers the click cooldown of the whole view and the click cooldown of the slot,
+     * configured by {@link ViewBuilder#clickCooldown(int)} and {@link ViewBuilder#slotClickCooldown(int)}.
+     *
+     * @param rawSlot The slot you want to check.
+     * @return The remaining cooldown in milliseconds, 0 if the slot can be clicked.
+     */
+    long getRemainingCooldown(int rawSlot);
+
+    /**
+     * Executes the given callback on the server thread, once the click cooldown
+     * of the given raw slot expired. If the cooldown is extended by another click in the meantime,
+     * the callback waits for the new cooldown. If the slot has no cooldown,
+     * the callback is executed directly. If the view is closed before, the callback is dropped.
+     * <p>
+     * This allows to re-render an item, once its cooldown ended, instead of polling it.
+     *
+     * @param rawSlot  The slot you want to wait for.
+     * @param callback The callback, which gets executed.
+     */
+    void onCooldownExpired(int rawSlot, @NotNull Runnable callback);
+
     /**
      * Executes the abstract method of every {@link ViewComponent#onRebuild(PlayerView, Player)}
      * in the component tree / hierarchy.
@@ -123,9 +180,28 @@ public interface PlayerView {
      * This method gets also called by the following actions and conditions:
      * Everytime after...
      * - ...the {@link PlayerView} was opened.
+     * <p>
+     * All item changes of the rebuild are collected and sent in one flush
+     * after the rebuild. Only the slots, which actually changed, are sent to the client.
+     * <p>
+     * If the view has the {@link Flags#COALESCE_REBUILDS} flag, the view is only marked as dirty
+     * and gets rebuilt once at the next server tick.
      */
     void executeRebuild();
 
+    /**
+     * Marks the given {@link ViewComponent} as invalidated and rebuilds only the invalidated
+     * components and their children, instead of the whole component tree / hierarchy.
+     * Before an invalidated component is rebuilt, the slots returned by
+     * {@link ViewComponent#getOwnedSlots(PlayerView)} of it and its children are cleared.
+     * <p>
+     * If the view has the {@link Flags#COALESCE_REBUILDS} flag, all invalidated components
+     * are collected and rebuilt once at the next server tick.
+     *
+     * @param component The {@link ViewComponent}, which needs to be rebuilt.
+     */
+    void invalidate(@NotNull ViewComponent component);
+
     /**
      * This method allows to change title of the currently
      * open top-inventory by a given {@link Component}.
@@ -1,9 +1,11 @@
 package eu.koboo.minestom.stomui.api;
 
+import eu.koboo.minestom.stomui.api.component.ViewComponent;
 import eu.koboo.minestom.stomui.api.component.ViewProvider;
 import eu.koboo.minestom.stomui.api.flags.Flag;
 import eu.koboo.minestom.stomui.api.flags.Flags;
 import eu.koboo.minestom.stomui.api.interaction.Interaction;
+import eu.koboo.minestom.stomui.api.utils.MiniMessageCache;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.experimental.FieldDefaults;
@@ -70,7 +72,7 @@ public final class ViewBuilder {
      * @return This {@link ViewBuilder} instance.
      */
     public @NotNull ViewBuilder title(@NotNull String miniMessageText) {
-        this.title = MiniMessage.miniMessage().deserialize(miniMessageText);
+        this.title = MiniMessageCache.deserialize(miniMessageText);
         return this;
     }
 
@@ -162,6 +164,37 @@ public final class ViewBuilder {
         return withFlags(Flags.ALLOW_ITEM_DRAGGING);
     }
 
+    /**
+     * Adds the {@link Flag} {@link Flags#COALESCE_REBUILDS}.
+     *
+     * @return This {@link ViewBuilder} instance.
+     */
+    public @NotNull ViewBuilder coalesceRebuilds() {
+        return withFlags(Flags.COALESCE_REBUILDS);
+    }
+
+    /**
+     * Adds the {@link Flag} {@link Flags#SHARED_RENDER}.
+     * <p>
+     * The shared components are rendered only once for the first {@link PlayerView} of the {@link ViewProvider},
+     * every other {@link PlayerView} just copies the rendered items and interactions.
+     * That means, shared components must not render anything depending on the {@link PlayerView} or {@link Player}.
+     * Mark those components with {@link eu.koboo.minestom.stomui.api.component.PerPlayerRender},
+     * so they are rendered for every {@link PlayerView} on top of the shared slots.
+     * Paginations and their page controls are always rendered per player, because their page is stored per view.
+     * <p>
+     * The shared components only receive {@link ViewComponent#onOpen(PlayerView, Player)}
+     * and {@link ViewComponent#onClose(PlayerView, Player)} for the {@link PlayerView}, which rendered them.
+     * <p>
+     * If the state of a shared component changes, call {@link ViewProvider#invalidateSharedRender()}
+     * to render the shared components again and update every {@link PlayerView} of the {@link ViewProvider}.
+     *
+     * @return This {@link ViewBuilder} instance.
+     */
+    public @NotNull ViewBuilder sharedRender() {
+        return withFlags(Flags.SHARED_RENDER);
+    }
+
     /**
      * Called by {@link ViewRegistry#open(PlayerView)}, to validate the properties of
      * this current instance of {@link ViewBuilder}.
@@ -2,15 +2,20 @@ package eu.koboo.minestom.stomui.api;
 
 import eu.koboo.minestom.stomui.api.component.ViewComponent;
 import eu.koboo.minestom.stomui.api.interaction.Interactions;
+import eu.koboo.minestom.stomui.api.pagination.DataSource;
 import eu.koboo.minestom.stomui.api.pagination.ItemRenderer;
 import eu.koboo.minestom.stomui.api.pagination.ViewPagination;
 import eu.koboo.minestom.stomui.api.slots.ViewPattern;
 import eu.koboo.minestom.stomui.core.CoreViewRegistry;
 import eu.koboo.minestom.stomui.core.MinestomUI;
+import eu.koboo.minestom.stomui.core.pagination.LazyPageComponent;
 import eu.koboo.minestom.stomui.core.pagination.PageComponent;
 import eu.koboo.minestom.stomui.core.pagination.ScrollComponent;
 import eu.koboo.minestom.stomui.core.slots.CoreViewPattern;
 import net.minestom.server.entity.Player;
+import net.minestom.server.event.EventNode;
+import net.minestom.server.event.player.PlayerDisconnectEvent;
+import net.minestom.server.event.trait.PlayerInstanceEvent;
 import net.minestom.server.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -30,10 +35,24 @@ import java.util.function.Consumer;
 public interface ViewRegistry {
 
     /**
-     * Registers all listeners of this framework.
+     * Registers all listeners of this framework on the global event handler.
+     * See {@link ViewRegistry#enable(EventNode)} for more information.
      */
     void enable();
 
+    /**
+     * Registers all listeners of this framework in a child {@link EventNode} of the given parent.
+     * The child node only passes events of players, which have an opened {@link PlayerView},
+     * so the events of all other players never reach the listeners.
+     * <p>
+     * On servers with multiple instances, the node of an instance can be used as parent,
+     * to only handle the views of players in that instance.
+     * The listener of {@link PlayerDisconnectEvent} is always registered on the global event handler.
+     *
+     * @param parentNode The {@link EventNode}, to which the child node is added.
+     */
+    void enable(@NotNull EventNode<? super PlayerInstanceEvent> parentNode);
+
     /**
      * Unregister all listeners and closes all currently open views.
      */
@@ -116,6 +135,41 @@ public interface ViewRegistry {
                                             @Nullable ItemStack fillerItem,
                                             @NotNull List<Integer> slotList);
 
+    /**
+     * See {@link ViewRegistry#pageable(DataSource, ItemRenderer, ItemStack, List, int, int)} for more information.
+     * Prefetches one page in each direction and caches up to 8 pages.
+     */
+    default <T> @NotNull ViewPagination<T> pageable(@NotNull DataSource<T> dataSource,
+                                                    @NotNull ItemRenderer<T> itemRenderer,
+                                                    @Nullable ItemStack fillerItem,
+                                                    @NotNull List<Integer> slotList) {
+        return pageable(dataSource, itemRenderer, fillerItem, slotList, 1, 8);
+    }
+
+    /**
+     * Creates a new instance of {@link ViewPagination} using pages, which fetches the items
+     * of the displayed pages from the given {@link DataSource}, instead of holding all items in memory.
+     * The fetched pages are cached, and the neighbour pages of the current page are prefetched.
+     * The returned instance needs to be added as child to a {@link ViewComponent}.
+     * - {@link ViewComponent#addChild(ViewComponent)}.
+     * <p>
+     * Could also be created using {@link LazyPageComponent#LazyPageComponent(DataSource, ItemRenderer, ItemStack, List, int, int)}
+     *
+     * @param dataSource    The {@link DataSource}, which provides the items.
+     * @param fillerItem    The filler item, if no item is present or not fetched yet. Defaults to Air.
+     * @param slotList      The list of slots, which are part of the pagination.
+     * @param prefetchPages The number of pages, which are prefetched in each direction of the current page.
+     * @param cacheSize     The maximum number of fetched pages, which are cached.
+     *                      Needs to fit the current page and all prefetched pages.
+     * @return A new instance of {@link ViewPagination}.
+     */
+    <T> @NotNull ViewPagination<T> pageable(@NotNull DataSource<T> dataSource,
+                                            @NotNull ItemRenderer<T> itemRenderer,
+                                            @Nullable ItemStack fillerItem,
+                                            @NotNull List<Integer> slotList,
+                                            int prefetchPages,
+                                            int cacheSize);
+
     /**
      * Creates a new instance of {@link ViewPagination} using scrollable row/columns
      * (depends on how you specify the slots in the given {@link List})
@@ -0,0 +1,36 @@
+package eu.koboo.minestom.stomui.api.annotations;
+
+import eu.koboo.minestom.stomui.api.PlayerView;
+import eu.koboo.minestom.stomui.api.annotations.components.AnnotationRenderComponent;
+import eu.koboo.minestom.stomui.api.component.ViewComponent;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Renders the methods of a {@link ViewComponent} class, which are annotated with
+ * {@link Slot}, {@link SlotPosition} and {@link Rebuildable}, without any reflection.
+ * <p>
+ * Implementations are generated at compile time by the stomui annotation processor,
+ * named after the component class with the suffix {@value AnnotationRenderer#GENERATED_SUFFIX}.
+ * The {@link AnnotationRenderComponent} discovers and uses them automatically.
+ * If no generated implementation is present, the annotated methods are resolved at runtime.
+ *
+ * @param <C> The type of the rendered {@link ViewComponent}.
+ */
+@ApiStatus.Internal
+public interface AnnotationRenderer<C extends ViewComponent> {
+
+    /**
+     * The suffix of the generated implementations, appended to the binary name of the component class.
+     */
+    String GENERATED_SUFFIX = "$StomuiRenderer";
+
+    /**
+     * Renders all annotated methods of the given component into the given view.
+     *
+     * @param component The {@link ViewComponent}, which declares the annotated methods.
+     * @param view      The {@link PlayerView}, which gets rendered.
+     * @param rebuild   true, if only the {@link Rebuildable} methods should be rendered.
+     */
+    void render(@NotNull C component, @NotNull PlayerView view, boolean rebuild);
+}
@@ -1,32 +1,27 @@
 package eu.koboo.minestom.stomui.api.annotations.components;
 
 import eu.koboo.minestom.stomui.api.PlayerView;
-import eu.koboo.minestom.stomui.api.ViewType;
 import eu.koboo.minestom.stomui.api.annotations.Rebuildable;
 import eu.koboo.minestom.stomui.api.annotations.Slot;
 import eu.koboo.minestom.stomui.api.annotations.SlotPosition;
 import eu.koboo.minestom.stomui.api.component.ComponentPriority;
 import eu.koboo.minestom.stomui.api.component.Priority;
 import eu.koboo.minestom.stomui.api.component.ViewComponent;
-import eu.koboo.minestom.stomui.api.item.PrebuiltItem;
-import eu.koboo.minestom.stomui.api.item.ViewItem;
-import lombok.extern.slf4j.Slf4j;
 import net.minestom.server.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.AnnotatedElement;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
-
 /**
  * This component can be added to any component and will render
  * the methods annotated with one of the following annotations:
  * - {@link Slot}
  * - {@link SlotPosition}
  * - {@link Rebuildable}
+ * <p>
+ * The annotated methods of every class are resolved and validated once,
+ * on the first rendering of a component of that class.
+ * If the stomui annotation processor is used, the methods are validated at compile time
+ * and rendered by the generated {@link eu.koboo.minestom.stomui.api.annotations.AnnotationRenderer}.
  */
-@Slf4j
 @ComponentPriority(Priority.HIGHEST)
 public final class AnnotationRenderComponent extends ViewComponent {
 
@@ -46,67 +41,15 @@ public final class AnnotationRenderComponent extends ViewComponent {
         );
     }
 
+    /**
+     * Renders all annotated methods of the given component into the given view,
+     * using the compiled render plan of the component class.
+     *
+     * @param view          The {@link PlayerView}, which gets rendered.
+     * @param component     The {@link ViewComponent}, which declares the annotated methods.
+     * @param isStateUpdate true, if only the {@link Rebuildable} methods should be rendered.
+     */
     public void executeItemMethods(PlayerView view, ViewComponent component, boolean isStateUpdate) {
-        for (Method method : component.getClass().getDeclaredMethods()) {
-
-            if (isStateUpdate && !method.isAnnotationPresent(Rebuildable.class)) {
-                continue;
-            }
-            if (!isStateUpdate && method.isAnnotationPresent(Rebuildable.class)) {
-                continue;
-            }
-
-            // The important thing here is the slot itself.
-            // If we can't resolve it, we stop from here on.
-            int slot = resolveSlotByAnnotation(view.getType(), method);
-            if (slot == -1) {
-                continue;
-            }
-
-            // Check if we are even allowed to call this method.
-            int modifiers = method.getModifiers();
-            String methodName = method.getName();
-            if (!Modifier.isPublic(modifiers)) {
-                throw new IllegalArgumentException("PrebuiltItem method " + methodName + " is not " +
-                    "public!");
-            }
-            if (method.getParameterCount() != 0) {
-                throw new IllegalArgumentException("PrebuiltItem method " + methodName + " has method " +
-                    "parameters!");
-            }
-            Class<?> returnType = method.getReturnType();
-            if (!PrebuiltItem.class.isAssignableFrom(returnType)) {
-                continue;
-            }
-
-            PrebuiltItem prebuiltItem;
-            try {
-                prebuiltItem = (PrebuiltItem) method.invoke(component);
-            } catch (IllegalAccessException | InvocationTargetException e) {
-                log.info("Caught exception executing item rendering: ", e);
-                return;
-            }
-            ViewItem.bySlot(view, slot)
-                .applyPrebuilt(prebuiltItem);
-        }
-    }
-
-    private int resolveSlotByAnnotation(ViewType viewType, AnnotatedElement element) {
-        Slot slotAnnotation = element.getAnnotation(Slot.class);
-        if (slotAnnotation != null) {
-            int slotValue = slotAnnotation.value();
-            if (slotValue > -1) {
-                return slotValue;
-            }
-        }
-        SlotPosition slotPositionAnnotation = element.getAnnotation(SlotPosition.class);
-        if (slotPositionAnnotation != null) {
-            int rowIndex = slotPositionAnnotation.row();
-            int columnIndex = slotPositionAnnotation.column();
-            if (rowIndex > -1 && columnIndex > -1) {
-                return viewType.toSlot(rowIndex, columnIndex);
-            }
-        }
-        return -1;
+        AnnotationRenderPlan.of(component.getClass()).render(view, component, isStateUpdate);
     }
 }
@@ -0,0 +1,231 @@
+package eu.koboo.minestom.stomui.api.annotations.components;
+
+import eu.koboo.minestom.stomui.api.PlayerView;
+import eu.koboo.minestom.stomui.api.ViewType;
+import eu.koboo.minestom.stomui.api.annotations.AnnotationRenderer;
+import eu.koboo.minestom.stomui.api.annotations.Rebuildable;
+import eu.koboo.minestom.stomui.api.annotations.Slot;
+import eu.koboo.minestom.stomui.api.annotations.SlotPosition;
+import eu.koboo.minestom.stomui.api.component.ViewComponent;
+import eu.koboo.minestom.stomui.api.item.PrebuiltItem;
+import eu.koboo.minestom.stomui.api.item.ViewItem;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The compiled render plan of a single {@link ViewComponent} class.
+ * All annotated methods are resolved and validated once per class,
+ * and are invoked by a {@link MethodHandle} afterward, so no reflection is needed
+ * on opening or rebuilding a view.
+ * <p>
+ * If the stomui annotation processor generated an {@link AnnotationRenderer} for the class,
+ * the plan delegates to it instead and no {@link MethodHandle} is created at all.
+ * <p>
+ * The plans are cached by {@link AnnotationRenderPlan#of(Class)}.
+ */
+@Slf4j
+@ApiStatus.Internal
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+final class AnnotationRenderPlan {
+
+    private static final ClassValue<AnnotationRenderPlan> RENDER_PLANS = new ClassValue<>() {
+        @Override
+        protected AnnotationRenderPlan computeValue(@NotNull Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(PrebuiltItem.class, ViewComponent.class);
+
+    @Nullable
+    AnnotationRenderer<ViewComponent> generatedRenderer;
+    RenderMethod[] openMethods;
+    RenderMethod[] rebuildMethods;
+
+    private AnnotationRenderPlan(@Nullable AnnotationRenderer<ViewComponent> generatedRenderer,
+                                 RenderMethod[] openMethods, RenderMethod[] rebuildMethods) {
+        this.generatedRenderer = generatedRenderer;
+        this.openMethods = openMethods;
+        this.rebuildMethods = rebuildMethods;
+    }
+
+    /**
+     * Returns the compiled render plan of the given class. The plan is compiled on the first call
+     * and cached for the lifetime of the class.
+     *
+     * @param type The class of the {@link ViewComponent}.
+     * @return The compiled render plan.
+     * @throws IllegalArgumentException if an annotated method is not public or has parameters.
+     */
+    static @NotNull AnnotationRenderPlan of(@NotNull Class<? extends ViewComponent> type) {
+        return RENDER_PLANS.get(type);
+    }
+
+    /**
+     * Renders all annotated methods of the given component into the given view.
+     *
+     * @param view      The {@link PlayerView}, which gets rendered.
+     * @param component The {@link ViewComponent}, which declares the annotated methods.
+     * @param rebuild   true, if only the {@link Rebuildable} methods should be rendered.
+     */
+    void render(@NotNull PlayerView view, @NotNull ViewComponent component, boolean rebuild) {
+        if (generatedRenderer != null) {
+            try {
+                generatedRenderer.render(component, view, rebuild);
+            } catch (RuntimeException e) {
+                log.info("Caught exception executing item rendering: ", e);
+            }
+            return;
+        }
+        RenderMethod[] renderMethods = rebuild ? rebuildMethods : openMethods;
+        if (renderMethods.length == 0) {
+            return;
+        }
+        ViewType viewType = view.getType();
+        for (RenderMethod renderMethod : renderMethods) {
+            int slot = renderMethod.resolveSlot(viewType);
+            PrebuiltItem prebuiltItem;
+            try {
+                prebuiltItem = (PrebuiltItem) renderMethod.invoker.invokeExact(component);
+            } catch (Throwable throwable) {
+                log.info("Caught exception executing item rendering: ", throwable);
+                return;
+            }
+            ViewItem.bySlot(view, slot)
+                .applyPrebuilt(prebuiltItem);
+        }
+    }
+
+    private static @NotNull AnnotationRenderPlan compile(@NotNull Class<?> type) {
+        AnnotationRenderer<ViewComponent> generatedRenderer = findGeneratedRenderer(type);
+        if (generatedRenderer != null) {
+            return new AnnotationRenderPlan(generatedRenderer, new RenderMethod[0], new RenderMethod[0]);
+        }
+        List<RenderMethod> openMethods = new ArrayList<>();
+        List<RenderMethod> rebuildMethods = new ArrayList<>();
+        for (Method method : type.getDeclaredMethods()) {
+            Slot slotAnnotation = method.getAnnotation(Slot.class);
+            SlotPosition slotPositionAnnotation = method.getAnnotation(SlotPosition.class);
+            int slot = slotAnnotation != null ? slotAnnotation.value() : -1;
+            int row = slotPositionAnnotation != null ? slotPositionAnnotation.row() : -1;
+            int column = slotPositionAnnotation != null ? slotPositionAnnotation.column() : -1;
+            // The important thing here is the slot itself.
+            // If we can't resolve it, we ignore the method.
+            if (slot < 0 && (row < 0 || column < 0)) {
+                continue;
+            }
+
+            // Check if we are even allowed to call this method.
+            int modifiers = method.getModifiers();
+            String methodName = method.getName();
+            if (!Modifier.isPublic(modifiers)) {
+                throw new IllegalArgumentException("PrebuiltItem method " + methodName + " is not " +
+                    "public!");
+            }
+            if (method.getParameterCount() != 0) {
+                throw new IllegalArgumentException("PrebuiltItem method " + methodName + " has method " +
+                    "parameters!");
+            }
+            Class<?> returnType = method.getReturnType();
+            if (!PrebuiltItem.class.isAssignableFrom(returnType)) {
+                continue;
+            }
+
+            RenderMethod renderMethod = new RenderMethod(createInvoker(method), slot, row, column);
+            if (method.isAnnotationPresent(Rebuildable.class)) {
+                rebuildMethods.add(renderMethod);
+                continue;
+            }
+            openMethods.add(renderMethod);
+        }
+        return new AnnotationRenderPlan(
+            null,
+            openMethods.toArray(new RenderMethod[0]),
+            rebuildMethods.toArray(new RenderMethod[0])
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @Nullable AnnotationRenderer<ViewComponent> findGeneratedRenderer(@NotNull Class<?> type) {
+        Class<?> rendererClass;
+        try {
+            rendererClass = Class.forName(type.getName() + AnnotationRenderer.GENERATED_SUFFIX, true, type.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            // The annotation processor isn't used, so we fall back to the runtime rendering.
+            return null;
+        }
+        if (!AnnotationRenderer.class.isAssignableFrom(rendererClass)) {
+            return null;
+        }
+        // The generated renderer is stateless, so it is only created once per component class.
+        try {
+            return (AnnotationRenderer<ViewComponent>) rendererClass.getDeclaredConstructor().newInstance();
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException |
+                 InvocationTargetException e) {
+            log.info("Couldn't create generated renderer of " + type.getName() + ": ", e);
+            return null;
+        }
+    }
+
+    private static @NotNull MethodHandle createInvoker(@NotNull Method method) {
+        // Public methods of non-public classes are only accessible after this call.
+        method.trySetAccessible();
+        try {
+            MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                // Static methods don't need the component, but all invokers share the same type.
+                methodHandle = MethodHandles.dropArguments(methodHandle, 0, ViewComponent.class);
+            }
+            return methodHandle.asType(INVOKER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("PrebuiltItem method " + method.getName() + " is not " +
+                "accessible!", e);
+        }
+    }
+
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private static final class RenderMethod {
+
+        // Marks a slot, which isn't resolved for the view type yet.
+        private static final int UNRESOLVED = Integer.MIN_VALUE;
+
+        final MethodHandle invoker;
+        final int slot;
+        final int row;
+        final int column;
+        // The resolved slot by the ordinal of the view type.
+        final int[] slotsByViewType;
+
+        RenderMethod(MethodHandle invoker, int slot, int row, int column) {
+            this.invoker = invoker;
+            this.slot = slot;
+            this.row = row;
+            this.column = column;
+            this.slotsByViewType = new int[ViewType.values().length];
+            Arrays.fill(this.slotsByViewType, UNRESOLVED);
+        }
+
+        int resolveSlot(@NotNull ViewType viewType) {
+            int resolvedSlot = slotsByViewType[viewType.ordinal()];
+            if (resolvedSlot == UNRESOLVED) {
+                resolvedSlot = slot > -1 ? slot : viewType.toSlot(row, column);
+                slotsByViewType[viewType.ordinal()] = resolvedSlot;
+            }
+            return resolvedSlot;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package eu.koboo.minestom.stomui.api.component;
+
+import eu.koboo.minestom.stomui.api.pagination.ViewPagination;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Holds the precomputed data of a whole component tree / hierarchy.
+ * The instance is owned by the root {@link ViewComponent} and can be resolved
+ * using {@link ViewComponent#getTree()}.
+ * <p>
+ * Every {@link ViewComponent#addChild(ViewComponent)} and {@link ViewComponent#removeChild(ViewComponent)}
+ * increments the version of the tree, which invalidates all precomputed data.
+ * The precomputed data is shared between all {@link eu.koboo.minestom.stomui.api.PlayerView}s
+ * of the root {@link ViewComponent}, which can be rendered on different threads.
+ * That's why it's computed into an immutable snapshot, which is published through a volatile field.
+ * All modifications of the tree are synchronized on the tree.
+ */
+@ApiStatus.Internal
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public final class ComponentTree {
+
+    final ViewComponent root;
+    volatile int version;
+    // Null, if the tree was modified since the last computation.
+    volatile Snapshot snapshot;
+
+    ComponentTree(@NotNull ViewComponent root) {
+        this.root = root;
+        this.version = 0;
+        this.snapshot = null;
+    }
+
+    /**
+     * @return The version of the tree, which is incremented on every modification.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Increments the version of the tree. Needs to be called while holding the lock of the tree,
+     * after the child was added to a component of this tree.
+     */
+    void attach(@NotNull ViewComponent child) {
+        invalidateSnapshot();
+    }
+
+    /**
+     * Increments the version of the tree. Needs to be called while holding the lock of the tree,
+     * after the child was removed from a component of this tree.
+     */
+    void detach(@NotNull ViewComponent child) {
+        invalidateSnapshot();
+    }
+
+    /**
+     * Increments the version of the tree, because data outside of the tree changed,
+     * which is part of the precomputed data, e.g. the page controls of a {@link ViewPagination}.
+     */
+    public void invalidate() {
+        synchronized (this) {
+            invalidateSnapshot();
+        }
+    }
+
+    private void invalidateSnapshot() {
+        version++;
+        snapshot = null;
+    }
+
+    private @NotNull Snapshot snapshot() {
+        Snapshot currentSnapshot = snapshot;
+        if (currentSnapshot != null) {
+            return currentSnapshot;
+        }
+        synchronized (this) {
+            currentSnapshot = snapshot;
+            if (currentSnapshot == null) {
+                currentSnapshot = new Snapshot(root, version);
+                snapshot = currentSnapshot;
+            }
+            return currentSnapshot;
+        }
+    }
+
+    /**
+     * Checks if the given {@link ViewComponent} is part of this tree.
+     *
+     * @param component The {@link ViewComponent} you want to check.
+     * @return true, if the {@link ViewComponent} is part of this tree.
+     */
+    public boolean contains(@NotNull ViewComponent component) {
+        return snapshot().indexOf(component) != -1;
+    }
+
+    /**
+     * Executes the given function on the given {@link ViewComponent} and its whole subtree,
+     * in the order of execution, by iterating over the precomputed plan of the tree.
+     * <p>
+     * If the function modifies the tree, e.g. by switching a child component,
+     * the plan is recomputed and the execution continues after the current component,
+     * so newly added children are executed as well.
+     *
+     * @param component The starting point of execution, which needs to be part of this tree.
+     * @param function  The execution function.
+     */
+    public void execute(@NotNull ViewComponent component, @NotNull Consumer<ViewComponent> function) {
+        Snapshot executedSnapshot = snapshot();
+        int index = executedSnapshot.indexOf(component);
+        if (index == -1) {
+            return;
+        }
+        int end = executedSnapshot.planEnds[index];
+        while (index < end) {
+            ViewComponent current = executedSnapshot.plan[index];
+            function.accept(current);
+            if (executedSnapshot.version == version) {
+                index++;
+                continue;
+            }
+            // The tree was modified, so continue with the children of the
+            // current component in the new plan.
+            executedSnapshot = snapshot();
+            int componentIndex = executedSnapshot.indexOf(component);
+            int currentIndex = executedSnapshot.indexOf(current);
+            if (componentIndex == -1 || currentIndex == -1) {
+                return;
+            }
+            end = executedSnapshot.planEnds[componentIndex];
+            index = currentIndex + 1;
+        }
+    }
+
+    /**
+     * @return All components of the tree in the order of execution.
+     * The array is computed once per version of the tree and must not be modified.
+     */
+    public ViewComponent @NotNull [] getPlan() {
+        return snapshot().plan;
+    }
+
+    /**
+     * Checks if the given {@link ViewComponent} is rendered per player on shared rendered views,
+     * because it or any of its ancestors returns true on {@link ViewComponent#isPerPlayerRender()},
+     * or it's a page control of a {@link ViewPagination}, which depends on the page of the view.
+     *
+     * @param component The {@link ViewComponent}, which needs to be part of this tree.
+     * @return true, if the {@link ViewComponent} is rendered per player.
+     */
+    public boolean isPerPlayerRender(@NotNull ViewComponent component) {
+        Snapshot currentSnapshot = snapshot();
+        int index = currentSnapshot.indexOf(component);
+        if (index == -1) {
+            return component.isPerPlayerRender();
+        }
+        return currentSnapshot.perPlayerPlan[index];
+    }
+
+    /**
+     * Returns all components of the tree, which are an instance of the given type,
+     * in the order of execution. The type can also be an interface, which is not a {@link ViewComponent},
+     * like the callback interfaces of the interactions.
+     * <p>
+     * The returned {@link List} is resolved once per version of the tree,
+     * by only checking the distinct classes of the components in the tree.
+     *
+     * @param type The class of the components you want to find.
+     * @param <T>  The generic type reference of the searched components.
+     * @return An unmodifiable {@link List} of all components of the given type.
+     */
+    public @NotNull <T> List<T> getComponentsOfType(@NotNull Class<T> type) {
+        return snapshot().getComponentsOfType(type);
+    }
+
+    /**
+     * Returns all components of the tree, which are exactly of the given class, not including subclasses.
+     * The order of the returned components is not defined.
+     *
+     * @param type The exact class of the components you want to find.
+     * @param <T>  The generic type reference of the searched components.
+     * @return An unmodifiable {@link Set} of all components of the given class.
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull <T extends ViewComponent> Set<T> getComponentsOfExactType(@NotNull Class<T> type) {
+        List<ViewComponent> componentList = snapshot().componentsByClass.get(type);
+        if (componentList == null) {
+            return Set.of();
+        }
+        return (Set<T>) Collections.unmodifiableSet(new LinkedHashSet<>(componentList));
+    }
+
+    /**
+     * The immutable data of one version of the tree. Only created while holding the lock of the tree.
+     */
+    private static final class Snapshot {
+
+        final int version;
+        // All components of the tree in the order of execution (pre-order, children by priority).
+        final ViewComponent[] plan;
+        // The plan index of every component, by identity.
+        final Map<ViewComponent, Integer> planIndices;
+        // Indexed by the plan index, every component covers the range [planIndex, planEnd) with its subtree.
+        final int[] planEnds;
+        // Indexed by the plan index, true if the component or any ancestor renders per player.
+        final boolean[] perPlayerPlan;
+        // All components of the tree by their exact class, in the order of execution.
+        final Map<Class<?>, List<ViewComponent>> componentsByClass;
+        // All components of the tree, which are assignable to the type, resolved on the first request.
+        final Map<Class<?>, List<?>> componentsByType;
+
+        Snapshot(@NotNull ViewComponent root, int version) {
+            this.version = version;
+            List<ViewComponent> planList = new ArrayList<>();
+            List<Integer> planEndList = new ArrayList<>();
+            appendPlan(root, planList, planEndList);
+            this.plan = planList.toArray(new ViewComponent[0]);
+            this.planEnds = new int[plan.length];
+            this.planIndices = new IdentityHashMap<>(plan.length);
+            Map<Class<?>, List<ViewComponent>> classMap = new HashMap<>();
+            for (int index = 0; index < plan.length; index++) {
+                planEnds[index] = planEndList.get(index);
+                planIndices.put(plan[index], index);
+                classMap.computeIfAbsent(plan[index].getClass(), key -> new ArrayList<>()).add(plan[index]);
+            }
+            this.componentsByClass = classMap;
+            this.componentsByType = new ConcurrentHashMap<>();
+            this.perPlayerPlan = computePerPlayerPlan();
+        }
+
+        private static void appendPlan(@NotNull ViewComponent component,
+                                       @NotNull List<ViewComponent> planList,
+                                       @NotNull List<Integer> planEndList) {
+            int planIndex = planList.size();
+            planList.add(component);
+            planEndList.add(-1);
+            List<ViewComponent> children = component.getChildren();
+            for (int i = 0; i < children.size(); i++) {
+                appendPlan(children.get(i), planList, planEndList);
+            }
+            planEndList.set(planIndex, planList.size());
+        }
+
+        private boolean @NotNull [] computePerPlayerPlan() {
+            boolean[] newPerPlayerPlan = new boolean[plan.length];
+            Set<ViewComponent> pageControls = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (ViewPagination<?> pagination : getComponentsOfType(ViewPagination.class)) {
+                pageControls.addAll(pagination.getPageControls());
+            }
+            for (int index = 0; index < plan.length; index++) {
+                ViewComponent planComponent = plan[index];
+                // Parents are always before their children in the plan.
+                ViewComponent parent = planComponent.getParent();
+                boolean parentPerPlayer = parent != null && newPerPlayerPlan[indexOf(parent)];
+                newPerPlayerPlan[index] = parentPerPlayer
+                    || planComponent.isPerPlayerRender()
+                    || pageControls.contains(planComponent);
+            }
+            return newPerPlayerPlan;
+        }
+
+        int indexOf(@NotNull ViewComponent component) {
+            Integer index = planIndices.get(component);
+            return index == null ? -1 : index;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> @NotNull List<T> getComponentsOfType(@NotNull Class<T> type) {
+            List<?> componentList = componentsByType.get(type);
+            if (componentList != null) {
+                // Every component in the list is an instance of the given type.
+                return (List<T>) componentList;
+            }
+            List<ViewComponent> newComponentList = new ArrayList<>();
+            for (Map.Entry<Class<?>, List<ViewComponent>> entry : componentsByClass.entrySet()) {
+                if (!type.isAssignableFrom(entry.getKey())) {
+                    continue;
+                }
+                newComponentList.addAll(entry.getValue());
+            }
+            if (newComponentList.size() > 1) {
+                newComponentList.sort(Comparator.comparingInt(this::indexOf));
+            }
+            componentList = List.copyOf(newComponentList);
+            // Concurrent requests compute the same list, so it doesn't matter which one is kept.
+            componentsByType.putIfAbsent(type, componentList);
+            return (List<T>) componentList;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package eu.koboo.minestom.stomui.api.component;
+
+import eu.koboo.minestom.stomui.api.ViewBuilder;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation marks a {@link ViewComponent} and its children to be rendered separately
+ * for every {@link eu.koboo.minestom.stomui.api.PlayerView}, if the view uses {@link ViewBuilder#sharedRender()}.
+ * It has no effect on views without shared rendering.
+ * See {@link ViewComponent#isPerPlayerRender()} for more information.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface PerPlayerRender {
+}
@@ -0,0 +1,84 @@
+package eu.koboo.minestom.stomui.api.component;
+
+import eu.koboo.minestom.stomui.api.interaction.Interaction;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import net.minestom.server.item.ItemStack;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The immutable result of rendering the shared components of a {@link ViewProvider}.
+ * It holds the items and interactions of every slot, which was rendered by a shared component.
+ * <p>
+ * All arrays are indexed by the slot index of the {@link eu.koboo.minestom.stomui.api.PlayerView}
+ * and must not be modified.
+ */
+@Getter
+@ApiStatus.Internal
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class SharedRenderSnapshot {
+
+    // The shared render version of the provider, this snapshot was rendered for.
+    int version;
+    // The slot indices, which were rendered by a shared component.
+    int[] slotIndices;
+    // null means, that no item was rendered into the slot.
+    ItemStack[] items;
+    Interaction[] interactions;
+    // true, if the interaction of the slot was rendered, even if it's null.
+    boolean[] renderedInteractions;
+
+    private SharedRenderSnapshot(int version, int[] slotIndices,
+                                 ItemStack[] items, Interaction[] interactions, boolean[] renderedInteractions) {
+        this.version = version;
+        this.slotIndices = slotIndices;
+        this.items = items;
+        this.interactions = interactions;
+        this.renderedInteractions = renderedInteractions;
+    }
+
+    /**
+     * Creates a new snapshot of the recorded slots on top of the previous snapshot.
+     * Slots, which were not recorded, are kept from the previous snapshot.
+     *
+     * @param previous             The previous snapshot, or null if the shared components were rendered from scratch.
+     * @param version              The shared render version of the provider.
+     * @param recordedItems        The recorded items by slot index, null means not recorded.
+     * @param recordedInteractions The recorded interactions by slot index.
+     * @param interactionRecorded  true by slot index, if the interaction was recorded.
+     * @return The new snapshot.
+     */
+    public static @NotNull SharedRenderSnapshot merge(@Nullable SharedRenderSnapshot previous, int version,
+                                                      @Nullable ItemStack @NotNull [] recordedItems,
+                                                      @Nullable Interaction @NotNull [] recordedInteractions,
+                                                      boolean @NotNull [] interactionRecorded) {
+        int slotCount = recordedItems.length;
+        ItemStack[] items = previous != null ? previous.items.clone() : new ItemStack[slotCount];
+        Interaction[] interactions = previous != null ? previous.interactions.clone() : new Interaction[slotCount];
+        boolean[] renderedInteractions = previous != null ? previous.renderedInteractions.clone() : new boolean[slotCount];
+        int renderedSlotCount = 0;
+        for (int slotIndex = 0; slotIndex < slotCount; slotIndex++) {
+            if (recordedItems[slotIndex] != null) {
+                items[slotIndex] = recordedItems[slotIndex];
+            }
+            if (interactionRecorded[slotIndex]) {
+                interactions[slotIndex] = recordedInteractions[slotIndex];
+                renderedInteractions[slotIndex] = true;
+            }
+            if (items[slotIndex] != null || renderedInteractions[slotIndex]) {
+                renderedSlotCount++;
+            }
+        }
+        int[] slotIndices = new int[renderedSlotCount];
+        int index = 0;
+        for (int slotIndex = 0; slotIndex < slotCount; slotIndex++) {
+            if (items[slotIndex] != null || renderedInteractions[slotIndex]) {
+                slotIndices[index++] = slotIndex;
+            }
+        }
+        return new SharedRenderSnapshot(version, slotIndices, items, interactions, renderedInteractions);
+    }
+}
@@ -10,6 +10,7 @@ import lombok.Setter;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import net.minestom.server.entity.Player;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -20,6 +21,8 @@ import java.util.*;
  * That means, a component is not forced to only exist within one {@link PlayerView}.
  * You can use one {@link ViewComponent} instance to modify multiple
  * {@link PlayerView} if you want to.
+ * Any state, which differs per viewer, should be stored in the {@link PlayerView#getState()}
+ * instead of the fields of the component.
  * You can also add as many children {@link ViewComponent} as you want.
  * The rendering/execution order of all children is defined by their specified {@link Priority}.
  * The {@link Priority} is resolved by using the {@link ViewComponent#getPriority()} method.
@@ -33,35 +36,77 @@ import java.util.*;
 @Getter
 @Setter(AccessLevel.PRIVATE)
 @FieldDefaults(level = AccessLevel.PRIVATE)
-@EqualsAndHashCode
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public abstract class ViewComponent {
 
+    @EqualsAndHashCode.Include
     final String id;
     final List<ViewComponent> children;
+    @Getter(AccessLevel.NONE)
+    final List<ViewComponent> unmodifiableChildren;
     ViewComponent parent;
+    // Only set on the root of the component tree, see ViewComponent#getTree.
+    @Getter(AccessLevel.NONE)
+    ComponentTree tree;
 
     public ViewComponent() {
         this.id = IdGenerator.generateRandomString(16);
         this.children = new ArrayList<>();
+        this.unmodifiableChildren = Collections.unmodifiableList(children);
     }
 
     /**
      * Adds a new child to this component. The given instance of the {@link ViewComponent}
-     * needs to be unique within the whole component tree.
+     * needs to be unique within the whole component tree and can't have another parent.
      *
      * @param child The {@link ViewComponent} you want to add as child
      * @return This {@link ViewComponent}
      */
     public @NotNull ViewComponent addChild(@NotNull ViewComponent child) {
-        if (hasChild(child)) {
+        ComponentTree tree = getTree();
+        if (child.parent == this) {
             throw new IllegalArgumentException("Child already exists: \n" +
                 "  - this: " + this + "\n" +
                 "  - child: " + child);
         }
-        child.setParent(this);
-        ViewComponentUtils.validateUniqueness(this);
-        children.add(child);
-        sortChildren();
+        if (child.parent != null) {
+            throw new IllegalArgumentException("Child already has another parent: \n" +
+                "  - this: " + this + "\n" +
+                "  - child: " + child);
+        }
+        // The child has no parent, so it's either a root of another tree or the root of this tree.
+        if (child == findRootAncestor()) {
+            throw ViewComponentUtils.dependencyCycleException(child, this);
+        }
+        // The tree is shared by all views, so it's only modified while holding its lock.
+        synchronized (tree) {
+            child.setParent(this);
+            // The child isn't a root anymore.
+            child.tree = null;
+            // Sorted on insertion, after all children with the same or a higher priority,
+            // so children with the same priority keep their order of addition.
+            Priority priority = child.getPriority();
+            int insertIndex = children.size();
+            while (insertIndex > 0 && children.get(insertIndex - 1).getPriority().compareTo(priority) > 0) {
+                insertIndex--;
+            }
+            children.add(insertIndex, child);
+            tree.attach(child);
+        }
+        return this;
+    }
+
+    /**
+     * Adds all given children to this component.
+     * See {@link ViewComponent#addChild(ViewComponent)} for more information.
+     *
+     * @param children The {@link ViewComponent}s you want to add as children
+     * @return This {@link ViewComponent}
+     */
+    public @NotNull ViewComponent addChildren(@NotNull ViewComponent... children) {
+        for (ViewComponent child : children) {
+            addChild(child);
+        }
         return this;
     }
 
@@ -76,16 +121,21 @@ public abstract class ViewComponent {
         if (!hasChild(child)) {
             throw new IllegalArgumentException("No child with id " + this);
         }
-        child.setParent(null);
-        children.remove(child);
-        sortChildren();
+        ComponentTree tree = getTree();
+        synchronized (tree) {
+            child.setParent(null);
+            for (int i = 0; i < children.size(); i++) {
+                if (children.get(i) != child) {
+                    continue;
+                }
+                children.remove(i);
+                break;
+            }
+            tree.detach(child);
+        }
         return this;
     }
 
-    private void sortChildren() {
-        children.sort(Comparator.comparing(ViewComponent::getPriority));
-    }
-
     /**
      * Checks if the given {@link ViewComponent} is a direct child of this {@link ViewComponent}.
      *
@@ -93,16 +143,7 @@ public abstract class ViewComponent {
      * @return true, if the {@link ViewComponent} is direct child.
      */
     public boolean hasChild(@NotNull ViewComponent child) {
-        if (children.contains(child)) {
-            return true;
-        }
-        for (ViewComponent viewComponent : children) {
-            if (!viewComponent.getId().equals(child.getId())) {
-                continue;
-            }
-            return true;
-        }
-        return false;
+        return child.parent == this;
     }
 
     /**
@@ -121,6 +162,21 @@ public abstract class ViewComponent {
         return ancestor;
     }
 
+    /**
+     * Resolves the {@link ComponentTree} of the current component tree,
+     * which is owned by the root {@link ViewComponent}.
+     *
+     * @return The {@link ComponentTree} of the root {@link ViewComponent}.
+     */
+    @ApiStatus.Internal
+    public @NotNull ComponentTree getTree() {
+        ViewComponent rootAncestor = findRootAncestor();
+        if (rootAncestor.tree == null) {
+            rootAncestor.tree = new ComponentTree(rootAncestor);
+        }
+        return rootAncestor.tree;
+    }
+
     /**
      * Returns a single {@link ViewComponent}, which is assignable from the given class.
      * This method searches through the whole component tree.
@@ -130,16 +186,16 @@ public abstract class ViewComponent {
      * @return An instance of a {@link ViewComponent}.
      */
     public @Nullable <T extends ViewComponent> T findComponentByType(Class<T> type) {
-        Set<T> componentSet = new LinkedHashSet<>();
-        ViewComponent rootAncestor = findRootAncestor();
-        ViewComponentUtils.appendComponentsOfType(rootAncestor, type, componentSet);
-        return componentSet.stream()
-            .findFirst()
-            .orElse(null);
+        List<T> componentList = getTree().getComponentsOfType(type);
+        if (componentList.isEmpty()) {
+            return null;
+        }
+        return componentList.getFirst();
     }
 
     /**
-     * Returns a List of {@link ViewComponent}s, which are assignable from the given class.
+     * Returns a Set of {@link ViewComponent}s, which are assignable from the given class,
+     * in the order of the component tree.
      * This method searches through the whole component tree.
      *
      * @param type The class of the {@link ViewComponent}s you want to find.
@@ -147,19 +203,18 @@ public abstract class ViewComponent {
      * @return A List with {@link ViewComponent}s.
      */
     public @NotNull <T extends ViewComponent> Set<T> findComponentsByType(Class<T> type) {
-        Set<T> componentSet = new LinkedHashSet<>();
-        ViewComponent rootAncestor = findRootAncestor();
-        ViewComponentUtils.appendComponentsOfType(rootAncestor, type, componentSet);
-        return Set.copyOf(componentSet);
+        return Collections.unmodifiableSet(new LinkedHashSet<>(getTree().getComponentsOfType(type)));
     }
 
     /**
-     * The returned List is not modifiable.
+     * The returned List is not modifiable, but reflects later changes of the children.
+     * Copy it, if you want to add or remove children while iterating over it.
+     * The children are sorted on insertion, so this method never modifies the component.
      *
-     * @return The List with all direct {@link ViewComponent} children.
+     * @return The List with all direct {@link ViewComponent} children, ordered by their {@link Priority}.
      */
     public @NotNull List<ViewComponent> getChildren() {
-        return List.copyOf(children);
+        return unmodifiableChildren;
     }
 
     /**
@@ -190,6 +245,42 @@ public abstract class ViewComponent {
         return Priority.MEDIUM;
     }
 
+    /**
+     * Only used by views with {@link ViewBuilder#sharedRender()}.
+     * If this returns true, this {@link ViewComponent} and its children are rendered
+     * separately for every {@link PlayerView}, instead of once for all {@link PlayerView}s.
+     * <p>
+     * By default, it checks if the {@link PerPlayerRender} annotation is present.
+     * The result is cached per version of the component tree.
+     *
+     * @return true, if this {@link ViewComponent} is rendered per player.
+     */
+    public boolean isPerPlayerRender() {
+        return this.getClass().isAnnotationPresent(PerPlayerRender.class);
+    }
+
+    /**
+     * Rebuilds only this {@link ViewComponent} and its children on the given {@link PlayerView}.
+     * See {@link PlayerView#invalidate(ViewComponent)} for more information.
+     *
+     * @param view The instance of the {@link PlayerView}, which should be rebuilt.
+     */
+    public void invalidate(@NotNull PlayerView view) {
+        view.invalidate(this);
+    }
+
+    /**
+     * Declares the raw slots this {@link ViewComponent} renders into.
+     * If the component gets invalidated, these slots are cleared before the component is rebuilt,
+     * so no items of the previous rebuild are left behind.
+     *
+     * @param view The instance of the containing {@link PlayerView}.
+     * @return The raw slots owned by this {@link ViewComponent}. Empty by default.
+     */
+    public @NotNull Collection<Integer> getOwnedSlots(@NotNull PlayerView view) {
+        return List.of();
+    }
+
     /**
      * Gets called, with the defined {@link ViewBuilder} and can be used
      * to modify the {@link ViewBuilder} according to the {@link ViewComponent} and it's
@@ -204,6 +295,8 @@ public abstract class ViewComponent {
 
     /**
      * Gets called, everytime {@link PlayerView#executeRebuild()} is called.
+     * It's also called once on opening the {@link PlayerView}, directly after {@link ViewComponent#onOpen(PlayerView, Player)}.
+     * Both are rendered before the inventory is opened, so there is no need to render the same items in both methods.
      *
      * @param view   The instance of the containing {@link PlayerView}.
      * @param player The instance of the {@link Player} of the {@link PlayerView}.
@@ -7,7 +7,10 @@ import eu.koboo.minestom.stomui.api.ViewType;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 import net.minestom.server.entity.Player;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * This class represents the root of a component tree and provides
@@ -22,6 +25,12 @@ public abstract class ViewProvider extends ViewComponent {
 
     ViewRegistry registry;
     ViewBuilder builder;
+    // Incremented by ViewProvider#invalidateSharedRender, which makes the current snapshot stale.
+    @NonFinal
+    volatile int sharedRenderVersion;
+    @Getter(AccessLevel.NONE)
+    @NonFinal
+    volatile SharedRenderSnapshot sharedRenderSnapshot;
 
     /**
      * Creates a new instance of {@link ViewProvider} by the given {@link ViewRegistry}
@@ -62,4 +71,33 @@ public abstract class ViewProvider extends ViewComponent {
     public void open(Player player) {
         registry.open(player, builder);
     }
+
+    /**
+     * Renders the shared components of this {@link ViewProvider} again and updates every open
+     * {@link PlayerView} of it. Only has an effect on views using {@link ViewBuilder#sharedRender()},
+     * other views of this {@link ViewProvider} are just rebuilt.
+     */
+    public void invalidateSharedRender() {
+        sharedRenderVersion++;
+        for (PlayerView playerView : registry.getAllViews()) {
+            if (playerView.getProvider() != this) {
+                continue;
+            }
+            // The first rebuilt view renders the new snapshot, all others copy it.
+            playerView.executeRebuild();
+        }
+    }
+
+    /**
+     * @return The snapshot of the shared components, or null if they were never rendered.
+     */
+    @ApiStatus.Internal
+    public @Nullable SharedRenderSnapshot getSharedRenderSnapshot() {
+        return sharedRenderSnapshot;
+    }
+
+    @ApiStatus.Internal
+    public void setSharedRenderSnapshot(@Nullable SharedRenderSnapshot sharedRenderSnapshot) {
+        this.sharedRenderSnapshot = sharedRenderSnapshot;
+    }
 }
@@ -2,9 +2,13 @@ package eu.koboo.minestom.stomui.api.flags;
 
 import eu.koboo.minestom.stomui.api.PlayerView;
 import eu.koboo.minestom.stomui.api.ViewBuilder;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 /**
@@ -14,18 +18,54 @@ import java.util.regex.Pattern;
  * The added {@link Flag} get copied to the {@link PlayerView} of the
  * {@link ViewBuilder} and can still be modified using these methods:
  * - {@link PlayerView#addFlags(Flag...)}
+ * - {@link PlayerView#hasFlag(Flag)}
  * - {@link PlayerView#hasFlags(Flag...)}
  * - {@link PlayerView#removeFlags(Flag...)}
- *
- * @param name
+ * <p>
+ * Every {@link Flag} name gets a unique bit index assigned, so a {@link PlayerView}
+ * can store its flags as a single bitmask. That limits the number of distinct
+ * {@link Flag} names to {@value Flag#MAX_FLAGS}.
+ * Two {@link Flag}s are equal, if their names are equal.
  */
-public record Flag(String name) {
+public final class Flag {
+
+    /**
+     * Defines the maximum number of distinct {@link Flag} names.
+     */
+    public static final int MAX_FLAGS = Long.SIZE;
+
+    /**
+     * Holds the assigned bit index of every {@link Flag} name.
+     */
+    private static final Map<String, Integer> BIT_INDEX_REGISTRY = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_BIT_INDEX = new AtomicInteger();
 
     /**
      * Defines the regex pattern for {@link Flag} names.
      */
     private static final Pattern FLAG_REGEX_PATTERN = Pattern.compile("^([a-z_-]){3,}$");
 
+    private final String name;
+    private final long mask;
+
+    /**
+     * Creates a new {@link Flag} instance using the given name.
+     * Flags with the same name share the same bit index.
+     *
+     * @param name The name of the created {@link Flag}
+     */
+    public Flag(@NotNull String name) {
+        this.name = name;
+        this.mask = 1L << BIT_INDEX_REGISTRY.computeIfAbsent(name, key -> {
+            int bitIndex = NEXT_BIT_INDEX.getAndIncrement();
+            if (bitIndex >= MAX_FLAGS) {
+                throw new IllegalStateException("Can't register more than " + MAX_FLAGS + " flags. " +
+                    "(name=" + key + ")");
+            }
+            return bitIndex;
+        });
+    }
+
     /**
      * Creates a new {@link Flag} instance using the given name.
      * The name needs to
@@ -41,4 +81,40 @@ public record Flag(String name) {
         }
         return new Flag(name.toLowerCase(Locale.ROOT));
     }
+
+    /**
+     * @return The name of this {@link Flag}.
+     */
+    public @NotNull String name() {
+        return name;
+    }
+
+    /**
+     * @return The bitmask of this {@link Flag}, with only its bit index set.
+     */
+    @ApiStatus.Internal
+    public long mask() {
+        return mask;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof Flag flag)) {
+            return false;
+        }
+        return mask == flag.mask;
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Flag[name=" + name + "]";
+    }
 }
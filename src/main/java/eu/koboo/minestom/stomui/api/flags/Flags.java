@@ -1,5 +1,6 @@
 package eu.koboo.minestom.stomui.api.flags;
 
+import eu.koboo.minestom.stomui.api.PlayerView;
 import eu.koboo.minestom.stomui.core.listener.ViewInventoryPreClickListener;
 import org.jetbrains.annotations.ApiStatus;
 
@@ -34,4 +35,19 @@ public final class Flags {
      * Most of the time, you don't need to set this flag.
      */
     public static final Flag CONVERT_CURSOR_TO_MAGIC_SLOT = new Flag("convert_cursor_to_outside_interaction");
+
+    /**
+     * Marks the view as dirty on {@link PlayerView#executeRebuild()}, instead of rebuilding it directly.
+     * The registry rebuilds every dirty view once at the next server tick,
+     * no matter how often the rebuild was requested in between.
+     */
+    public static final Flag COALESCE_REBUILDS = new Flag("coalesce_rebuilds");
+
+    /**
+     * Renders all components, which are not marked by {@link eu.koboo.minestom.stomui.api.component.PerPlayerRender},
+     * once per {@link eu.koboo.minestom.stomui.api.component.ViewProvider} and shares the rendered slots
+     * with every {@link PlayerView} of it. Only the per-player components are rendered for each {@link PlayerView}.
+     * See {@link eu.koboo.minestom.stomui.api.ViewBuilder#sharedRender()} for more information.
+     */
+    public static final Flag SHARED_RENDER = new Flag("shared_render");
 }
@@ -22,8 +22,17 @@ import java.util.function.Consumer;
 @UtilityClass
 public class Interactions {
 
+    /**
+     * The {@link Interaction}, which only cancels the click. It's the default of every slot,
+     * so slots with this instance are skipped by the click listener, because every click of a view is cancelled anyway.
+     */
+    public static final Interaction CANCEL = action -> action.getEvent().setCancelled(true);
+
+    /**
+     * @return The shared instance {@link Interactions#CANCEL}.
+     */
     public Interaction cancel() {
-        return action -> action.getEvent().setCancelled(true);
+        return CANCEL;
     }
 
     public Interaction allow() {
@@ -136,7 +145,7 @@ public class Interactions {
                                       @Nullable Consumer<Player> noNavigation) {
         return action -> {
             action.getEvent().setCancelled(true);
-            if (!pagination.hasNextPage()) {
+            if (!pagination.hasNextPage(action.getView())) {
                 if (noNavigation == null) {
                     return;
                 }
@@ -165,7 +174,7 @@ public class Interactions {
                                           @Nullable Consumer<Player> noNavigation) {
         return action -> {
             action.getEvent().setCancelled(true);
-            if (!pagination.hasPreviousPage()) {
+            if (!pagination.hasPreviousPage(action.getView())) {
                 if (noNavigation == null) {
                     return;
                 }
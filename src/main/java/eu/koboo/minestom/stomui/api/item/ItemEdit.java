@@ -0,0 +1,196 @@
+package eu.koboo.minestom.stomui.api.item;
+
+import eu.koboo.minestom.stomui.api.utils.MiniMessageCache;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import net.kyori.adventure.text.Component;
+import net.minestom.server.component.DataComponent;
+import net.minestom.server.component.DataComponents;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.Material;
+import net.minestom.server.item.component.TooltipDisplay;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collects multiple modifications of an {@link ItemStack} and creates the modified
+ * {@link ItemStack} only once, instead of creating a new {@link ItemStack} on every modification.
+ * Use it by calling {@link ModifiableItem#edit(java.util.function.Consumer)}, e.g.:
+ * <p>
+ * viewItem.edit(edit -> edit.material(Material.ARROW).name("Next").glint());
+ * <p>
+ * On a {@link ViewItem}, the modified {@link ItemStack} is also written only once into the slot.
+ * The instance is only valid within the edit call.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public final class ItemEdit {
+
+    private static final Set<DataComponent<?>> HIDDEN_TOOLTIP_COMPONENTS = Set.of(
+        DataComponents.BANNER_PATTERNS, DataComponents.BEES, DataComponents.BLOCK_ENTITY_DATA,
+        DataComponents.BLOCK_STATE, DataComponents.BUNDLE_CONTENTS, DataComponents.CHARGED_PROJECTILES,
+        DataComponents.CONTAINER, DataComponents.CONTAINER_LOOT, DataComponents.FIREWORK_EXPLOSION,
+        DataComponents.FIREWORKS, DataComponents.INSTRUMENT, DataComponents.MAP_ID,
+        DataComponents.PAINTING_VARIANT, DataComponents.POT_DECORATIONS, DataComponents.POTION_CONTENTS,
+        DataComponents.TROPICAL_FISH_PATTERN, DataComponents.WRITTEN_BOOK_CONTENT
+    );
+    private static final TooltipDisplay HIDDEN_TOOLTIP = new TooltipDisplay(true, HIDDEN_TOOLTIP_COMPONENTS);
+    private static final TooltipDisplay SHOWN_TOOLTIP = new TooltipDisplay(false, HIDDEN_TOOLTIP_COMPONENTS);
+
+    // The item, all modifications are applied on.
+    ItemStack baseItem;
+    // Created on the first modification of a component.
+    ItemStack.Builder builder;
+    // Only set, if the lore was modified, so single lines can be modified without rebuilding.
+    List<Component> lore;
+
+    ItemEdit(@NotNull ItemStack baseItem) {
+        this.baseItem = baseItem;
+        this.builder = null;
+        this.lore = null;
+    }
+
+    /**
+     * The constant {@link TooltipDisplay}s, so they don't need to be created on every call.
+     */
+    static @NotNull TooltipDisplay tooltipDisplay(boolean hide) {
+        return hide ? HIDDEN_TOOLTIP : SHOWN_TOOLTIP;
+    }
+
+    /**
+     * Deserializes the given lore lines, shared with {@link ModifiableItem#lore(List)}.
+     */
+    static @NotNull List<Component> deserializeLines(@NotNull List<String> lines) {
+        List<Component> componentList = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            componentList.add(MiniMessageCache.deserialize(line));
+        }
+        return componentList;
+    }
+
+    public @NotNull ItemEdit material(@NotNull Material newMaterial) {
+        builder().material(newMaterial);
+        return this;
+    }
+
+    public @NotNull ItemEdit displayName(@NotNull Component component) {
+        return name(component);
+    }
+
+    public @NotNull ItemEdit name(@NotNull Component component) {
+        return addComponent(DataComponents.CUSTOM_NAME, component);
+    }
+
+    public @NotNull ItemEdit displayName(@NotNull String text) {
+        return name(text);
+    }
+
+    public @NotNull ItemEdit name(@NotNull String text) {
+        return name(MiniMessageCache.deserialize(text));
+    }
+
+    public @NotNull ItemEdit loreComponents(@NotNull List<Component> lines) {
+        lore = new ArrayList<>(lines);
+        return this;
+    }
+
+    public @NotNull ItemEdit lore(@NotNull List<String> lines) {
+        lore = deserializeLines(lines);
+        return this;
+    }
+
+    public @NotNull ItemEdit lore(@NotNull String... lines) {
+        return lore(List.of(lines));
+    }
+
+    public @NotNull ItemEdit loreLine(int lineIndex, @Nullable Component component) {
+        if (lore == null) {
+            lore = new ArrayList<>();
+            List<Component> loreComponentList = baseItem.get(DataComponents.LORE);
+            if (loreComponentList != null) {
+                lore.addAll(loreComponentList);
+            }
+        }
+        if (component == null) {
+            component = Component.empty();
+        }
+        lore.set(lineIndex, component);
+        return this;
+    }
+
+    public @NotNull ItemEdit loreLine(int lineIndex, @Nullable String text) {
+        Component component;
+        if (text == null) {
+            component = null;
+        } else {
+            component = MiniMessageCache.deserialize(text);
+        }
+        return loreLine(lineIndex, component);
+    }
+
+    public @NotNull ItemEdit amount(int amount) {
+        builder().amount(amount);
+        return this;
+    }
+
+    public <D> @NotNull ItemEdit addComponent(@NotNull DataComponent<D> dataComponent, @NotNull D value) {
+        if (dataComponent == DataComponents.LORE) {
+            // Otherwise, the previously modified lore would override the new value on build.
+            lore = null;
+        }
+        builder().set(dataComponent, value);
+        return this;
+    }
+
+    public <D> @NotNull ItemEdit removeComponent(@NotNull DataComponent<D> dataComponent) {
+        if (dataComponent == DataComponents.LORE) {
+            lore = null;
+        }
+        builder().remove(dataComponent);
+        return this;
+    }
+
+    public @NotNull ItemEdit glint(boolean isGlint) {
+        return addComponent(DataComponents.ENCHANTMENT_GLINT_OVERRIDE, isGlint);
+    }
+
+    public @NotNull ItemEdit glint() {
+        return glint(true);
+    }
+
+    public @NotNull ItemEdit unglint() {
+        return glint(false);
+    }
+
+    public @NotNull ItemEdit hideTooltip(boolean hide) {
+        return addComponent(DataComponents.TOOLTIP_DISPLAY, tooltipDisplay(hide));
+    }
+
+    private @NotNull ItemStack.Builder builder() {
+        if (builder == null) {
+            builder = baseItem.builder();
+        }
+        return builder;
+    }
+
+    /**
+     * Creates the modified {@link ItemStack}. If nothing was modified, the original {@link ItemStack} is returned.
+     *
+     * @return The modified {@link ItemStack}.
+     */
+    @NotNull ItemStack build() {
+        if (lore != null) {
+            builder().set(DataComponents.LORE, List.copyOf(lore));
+            lore = null;
+        }
+        if (builder == null) {
+            return baseItem;
+        }
+        baseItem = builder.build();
+        builder = null;
+        return baseItem;
+    }
+}
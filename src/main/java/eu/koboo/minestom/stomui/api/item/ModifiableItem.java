@@ -2,21 +2,20 @@ package eu.koboo.minestom.stomui.api.item;
 
 import eu.koboo.minestom.stomui.api.interaction.Interaction;
 import eu.koboo.minestom.stomui.api.interaction.Interactions;
+import eu.koboo.minestom.stomui.api.utils.MiniMessageCache;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.minestom.server.component.DataComponent;
 import net.minestom.server.component.DataComponents;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
-import net.minestom.server.item.component.TooltipDisplay;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * This abstract class represents a {@link PrebuiltItem} or a {@link ViewItem}
@@ -24,6 +23,9 @@ import java.util.Set;
  * Implementations:
  * - {@link PrebuiltItem}
  * - {@link ViewItem}
+ * <p>
+ * Every single modification creates the modified {@link ItemStack} directly.
+ * To combine multiple modifications into a single {@link ItemStack}, use {@link ModifiableItem#edit(Consumer)}.
  */
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public abstract sealed class ModifiableItem permits PrebuiltItem, ViewItem {
@@ -69,7 +71,7 @@ public abstract sealed class ModifiableItem permits PrebuiltItem, ViewItem {
     }
 
     public <T extends ModifiableItem> T name(@NotNull String text) {
-        return name(MiniMessage.miniMessage().deserialize(text));
+        return name(MiniMessageCache.deserialize(text));
     }
 
     public <T extends ModifiableItem> T loreComponents(@NotNull List<Component> lines) {
@@ -77,11 +79,7 @@ public abstract sealed class ModifiableItem permits PrebuiltItem, ViewItem {
     }
 
     public <T extends ModifiableItem> T lore(@NotNull List<String> lines) {
-        List<Component> componentList = new ArrayList<>();
-        for (String line : lines) {
-            componentList.add(MiniMessage.miniMessage().deserialize(line));
-        }
-        return loreComponents(componentList);
+        return loreComponents(ItemEdit.deserializeLines(lines));
     }
 
     public <T extends ModifiableItem> T lore(@NotNull String... lines) {
@@ -107,7 +105,7 @@ public abstract sealed class ModifiableItem permits PrebuiltItem, ViewItem {
         if (text == null) {
             component = null;
         } else {
-            component = MiniMessage.miniMessage().deserialize(text);
+            component = MiniMessageCache.deserialize(text);
         }
         return loreLine(lineIndex, component);
     }
@@ -157,26 +155,21 @@ public abstract sealed class ModifiableItem permits PrebuiltItem, ViewItem {
     }
 
     public <T extends ModifiableItem> T hideTooltip(boolean hide) {
-        T ret;
-        if (hide) {
-            ret = addComponent(DataComponents.TOOLTIP_DISPLAY, new TooltipDisplay(true, Set.of(
-                DataComponents.BANNER_PATTERNS, DataComponents.BEES, DataComponents.BLOCK_ENTITY_DATA,
-                DataComponents.BLOCK_STATE, DataComponents.BUNDLE_CONTENTS, DataComponents.CHARGED_PROJECTILES,
-                DataComponents.CONTAINER, DataComponents.CONTAINER_LOOT, DataComponents.FIREWORK_EXPLOSION,
-                DataComponents.FIREWORKS, DataComponents.INSTRUMENT, DataComponents.MAP_ID,
-                DataComponents.PAINTING_VARIANT, DataComponents.POT_DECORATIONS, DataComponents.POTION_CONTENTS,
-                DataComponents.TROPICAL_FISH_PATTERN, DataComponents.WRITTEN_BOOK_CONTENT
-            )));
-        } else {
-            ret = addComponent(DataComponents.TOOLTIP_DISPLAY, new TooltipDisplay(false, Set.of(
-                DataComponents.BANNER_PATTERNS, DataComponents.BEES, DataComponents.BLOCK_ENTITY_DATA,
-                DataComponents.BLOCK_STATE, DataComponents.BUNDLE_CONTENTS, DataComponents.CHARGED_PROJECTILES,
-                DataComponents.CONTAINER, DataComponents.CONTAINER_LOOT, DataComponents.FIREWORK_EXPLOSION,
-                DataComponents.FIREWORKS, DataComponents.INSTRUMENT, DataComponents.MAP_ID,
-                DataComponents.PAINTING_VARIANT, DataComponents.POT_DECORATIONS, DataComponents.POTION_CONTENTS,
-                DataComponents.TROPICAL_FISH_PATTERN, DataComponents.WRITTEN_BOOK_CONTENT
-            )));
-        }
-        return ret;
+        return addComponent(DataComponents.TOOLTIP_DISPLAY, ItemEdit.tooltipDisplay(hide));
+    }
+
+    /**
+     * Applies all modifications of the given editor at once, so the {@link ItemStack}
+     * is created and, on a {@link ViewItem}, written into the slot only once.
+     * See {@link ItemEdit} for more information.
+     *
+     * @param editor The modifications of the {@link ItemStack}.
+     * @param <T>    The type of this {@link ModifiableItem}.
+     * @return This {@link ModifiableItem}.
+     */
+    public <T extends ModifiableItem> T edit(@NotNull Consumer<ItemEdit> editor) {
+        ItemEdit itemEdit = new ItemEdit(getItem());
+        editor.accept(itemEdit);
+        return item(itemEdit.build());
     }
 }
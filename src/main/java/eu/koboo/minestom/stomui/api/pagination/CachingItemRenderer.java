@@ -0,0 +1,251 @@
+package eu.koboo.minestom.stomui.api.pagination;
+
+import eu.koboo.minestom.stomui.api.item.PrebuiltItem;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * An {@link ItemRenderer}, which caches the rendered {@link PrebuiltItem}s of another {@link ItemRenderer}.
+ * Every item of the {@link ViewPagination} is rendered again on every rebuild and on every page switch,
+ * with this renderer only the items, which changed since their last render, are rendered again, e.g.:
+ * <p>
+ * ItemRenderer&lt;Listing&gt; renderer = CachingItemRenderer.of(
+ * new ListingItemRenderer(),
+ * listing -&gt; listing.getId() + ":" + listing.getRevision(),
+ * 512
+ * );
+ * <p>
+ * The rendered items are cached by the key extracted from the item. The key needs to change,
+ * if the rendered item should change, so it should contain a revision or version of the item.
+ * Otherwise, the cached item needs to be removed by {@link CachingItemRenderer#invalidate(Object)}.
+ * <p>
+ * The cache is bounded by the weight of the cached items, if the weight is exceeded,
+ * the least recently rendered items are evicted. By default, every item weighs 1,
+ * so the weight is the count of cached items.
+ * <p>
+ * The cached {@link PrebuiltItem}s are shared by all views, so they must not be modified after rendering.
+ *
+ * @param <T> The type of the items of the {@link ViewPagination}.
+ * @param <K> The type of the cache key.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class CachingItemRenderer<T, K> implements ItemRenderer<T> {
+
+    ItemRenderer<T> itemRenderer;
+    Function<T, K> keyExtractor;
+    ToIntFunction<PrebuiltItem> weigher;
+    long maximumWeight;
+    // Ordered by access, so the first entry is the least recently rendered one.
+    Map<K, CachedItem> cache;
+
+    @NonFinal
+    long currentWeight;
+    @NonFinal
+    long hits;
+    @NonFinal
+    long misses;
+
+    /**
+     * Creates a new {@link CachingItemRenderer}, which is bounded by the weight of the cached items.
+     *
+     * @param itemRenderer  The {@link ItemRenderer}, which renders the items, which aren't cached.
+     * @param keyExtractor  The function to extract the cache key of an item.
+     * @param maximumWeight The maximum summed weight of all cached items.
+     * @param weigher       The function to calculate the weight of a rendered item, needs to be 0 or greater.
+     */
+    public CachingItemRenderer(@NotNull ItemRenderer<T> itemRenderer,
+                               @NotNull Function<T, K> keyExtractor,
+                               long maximumWeight,
+                               @NotNull ToIntFunction<PrebuiltItem> weigher) {
+        if (maximumWeight < 1) {
+            throw new IllegalArgumentException("maximumWeight must be at least 1. " +
+                "(maximumWeight=" + maximumWeight + ")");
+        }
+        this.itemRenderer = itemRenderer;
+        this.keyExtractor = keyExtractor;
+        this.weigher = weigher;
+        this.maximumWeight = maximumWeight;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true);
+        this.currentWeight = 0;
+        this.hits = 0;
+        this.misses = 0;
+    }
+
+    /**
+     * Creates a new {@link CachingItemRenderer}, which is bounded by the count of cached items.
+     *
+     * @param itemRenderer The {@link ItemRenderer}, which renders the items, which aren't cached.
+     * @param keyExtractor The function to extract the cache key of an item.
+     * @param maximumSize  The maximum count of cached items.
+     * @param <T>          The type of the items of the {@link ViewPagination}.
+     * @param <K>          The type of the cache key.
+     * @return The new {@link CachingItemRenderer}.
+     */
+    public static <T, K> @NotNull CachingItemRenderer<T, K> of(@NotNull ItemRenderer<T> itemRenderer,
+                                                                @NotNull Function<T, K> keyExtractor,
+                                                                int maximumSize) {
+        return new CachingItemRenderer<>(itemRenderer, keyExtractor, maximumSize, prebuiltItem -> 1);
+    }
+
+    @Override
+    public PrebuiltItem render(T item) {
+        K key = keyExtractor.apply(item);
+        synchronized (this) {
+            CachedItem cachedItem = cache.get(key);
+            if (cachedItem != null) {
+                hits++;
+                return cachedItem.prebuiltItem;
+            }
+            misses++;
+        }
+        // Render outside the lock, so other views don't wait for a slow render.
+        PrebuiltItem prebuiltItem = itemRenderer.render(item);
+        cache(key, prebuiltItem);
+        return prebuiltItem;
+    }
+
+    /**
+     * Only the items, which aren't cached, are passed to {@link ItemRenderer#renderPage(List)}
+     * of the wrapped {@link ItemRenderer}, so a page is still rendered in a single batch.
+     */
+    @Override
+    public @NotNull CompletableFuture<List<PrebuiltItem>> renderPage(@NotNull List<T> items) {
+        PrebuiltItem[] prebuiltItems = new PrebuiltItem[items.size()];
+        List<T> missingItemList = new ArrayList<>();
+        List<K> missingKeyList = new ArrayList<>();
+        List<Integer> missingIndexList = new ArrayList<>();
+        synchronized (this) {
+            for (int itemIndex = 0; itemIndex < items.size(); itemIndex++) {
+                T item = items.get(itemIndex);
+                K key = keyExtractor.apply(item);
+                CachedItem cachedItem = cache.get(key);
+                if (cachedItem != null) {
+                    hits++;
+                    prebuiltItems[itemIndex] = cachedItem.prebuiltItem;
+                    continue;
+                }
+                misses++;
+                missingItemList.add(item);
+                missingKeyList.add(key);
+                missingIndexList.add(itemIndex);
+            }
+        }
+        if (missingItemList.isEmpty()) {
+            return CompletableFuture.completedFuture(Arrays.asList(prebuiltItems));
+        }
+        return itemRenderer.renderPage(missingItemList).thenApply(renderedItemList -> {
+            int renderedItems = Math.min(renderedItemList.size(), missingItemList.size());
+            for (int missingIndex = 0; missingIndex < renderedItems; missingIndex++) {
+                PrebuiltItem prebuiltItem = renderedItemList.get(missingIndex);
+                if (prebuiltItem == null) {
+                    continue;
+                }
+                prebuiltItems[missingIndexList.get(missingIndex)] = prebuiltItem;
+                cache(missingKeyList.get(missingIndex), prebuiltItem);
+            }
+            return Arrays.asList(prebuiltItems);
+        });
+    }
+
+    private void cache(@NotNull K key, @NotNull PrebuiltItem prebuiltItem) {
+        int weight = weigher.applyAsInt(prebuiltItem);
+        if (weight < 0) {
+            throw new IllegalArgumentException("The weight of a rendered item must be 0 or greater. " +
+                "(weight=" + weight + ")");
+        }
+        if (weight > maximumWeight) {
+            // The item would evict every other item, so it's not cached at all.
+            return;
+        }
+        synchronized (this) {
+            CachedItem previousItem = cache.put(key, new CachedItem(prebuiltItem, weight));
+            if (previousItem != null) {
+                currentWeight -= previousItem.weight;
+            }
+            currentWeight += weight;
+            evictExceedingItems();
+        }
+    }
+
+    private void evictExceedingItems() {
+        Iterator<CachedItem> iterator = cache.values().iterator();
+        while (currentWeight > maximumWeight && iterator.hasNext()) {
+            currentWeight -= iterator.next().weight;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Removes the cached item of the given key, so it is rendered again on the next rebuild.
+     * Rebuild the views with {@link ViewPagination#refreshPage(eu.koboo.minestom.stomui.api.PlayerView)},
+     * to display the changed item.
+     *
+     * @param key The cache key of the item.
+     */
+    public synchronized void invalidate(@NotNull K key) {
+        CachedItem cachedItem = cache.remove(key);
+        if (cachedItem != null) {
+            currentWeight -= cachedItem.weight;
+        }
+    }
+
+    /**
+     * Removes the cached item of the given item, so it is rendered again on the next rebuild.
+     *
+     * @param item The item of the {@link ViewPagination}.
+     */
+    public void invalidateItem(@NotNull T item) {
+        invalidate(keyExtractor.apply(item));
+    }
+
+    /**
+     * Removes all cached items, e.g. after the {@link ItemRenderer} changed the appearance of all items.
+     */
+    public synchronized void invalidateAll() {
+        cache.clear();
+        currentWeight = 0;
+    }
+
+    /**
+     * @return The count of cached items.
+     */
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    /**
+     * @return The summed weight of all cached items.
+     */
+    public synchronized long getWeight() {
+        return currentWeight;
+    }
+
+    /**
+     * @return The count of renders, which were served by the cache.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return The count of renders, which needed to render the item.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    private record CachedItem(@NotNull PrebuiltItem prebuiltItem, int weight) {
+    }
+}
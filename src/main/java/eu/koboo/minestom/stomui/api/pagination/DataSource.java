@@ -0,0 +1,41 @@
+package eu.koboo.minestom.stomui.api.pagination;
+
+import eu.koboo.minestom.stomui.api.ViewRegistry;
+import net.minestom.server.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This interface provides the items of a lazy {@link ViewPagination} in slices,
+ * instead of holding the whole dataset in memory.
+ * The pagination only asks for the pages, which are displayed or prefetched.
+ * Filtering and sorting of the items is part of the {@link DataSource} itself.
+ * <p>
+ * See {@link ViewRegistry#pageable(DataSource, ItemRenderer, ItemStack, List, int, int)}
+ * for more information.
+ *
+ * @param <T> Any object of the pagination.
+ */
+public interface DataSource<T> {
+
+    /**
+     * Fetches a slice of the items. The returned {@link List} can contain fewer
+     * items than the given limit, if the end of the items is reached.
+     * The {@link CompletableFuture} can be completed on any thread.
+     *
+     * @param offset The index of the first item, starting at 0.
+     * @param limit  The maximum number of items.
+     * @return A {@link CompletableFuture} of the fetched items.
+     */
+    @NotNull CompletableFuture<List<T>> fetch(int offset, int limit);
+
+    /**
+     * Counts the total number of items of this {@link DataSource}.
+     * The {@link CompletableFuture} can be completed on any thread.
+     *
+     * @return A {@link CompletableFuture} of the total number of items.
+     */
+    @NotNull CompletableFuture<Integer> count();
+}
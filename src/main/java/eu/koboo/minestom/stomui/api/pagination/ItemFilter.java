@@ -7,6 +7,10 @@ import org.jetbrains.annotations.NotNull;
  * The pagination creates a copy of the itemList and runs the filter on
  * it. If the {@link ItemFilter#include(T)} method returns true, the item is included,
  * if it returns false, the item is not displayed in the pagination.
+ * <p>
+ * The result of the filter is kept until the items of the pagination change.
+ * If the filter has a state, which changes the result, like a search input,
+ * call {@link ViewPagination#refilterItems()} after changing it.
  *
  * @param <T> Any object of the pagination.
  */
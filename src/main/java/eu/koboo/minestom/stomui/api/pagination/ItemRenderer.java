@@ -1,11 +1,20 @@
 package eu.koboo.minestom.stomui.api.pagination;
 
 import eu.koboo.minestom.stomui.api.item.PrebuiltItem;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This interface is used to "map"/create a {@link PrebuiltItem} from the object used in
  * the {@link ViewPagination}. Every item displayed in the {@link ViewPagination} gets
  * rendered through this interface.
+ * <p>
+ * The {@link ViewPagination} renders all items of a page at once by {@link ItemRenderer#renderPage(List)}.
+ * Renderers, which need to look up data for every item (e.g. from a database),
+ * should override it, to look up the data of the whole page at once and without blocking the tick.
  *
  * @param <T>
  */
@@ -18,4 +27,25 @@ public interface ItemRenderer<T> {
      * @return The {@link PrebuiltItem} build from the given item.
      */
     PrebuiltItem render(T item);
+
+    /**
+     * Renders all items of the displayed page. By default, every item is rendered
+     * by {@link ItemRenderer#render(Object)} and the returned future is already completed.
+     * <p>
+     * If the returned future isn't completed yet, the slots of the page display
+     * the placeholder item of the {@link ViewPagination} until it completes,
+     * see {@link ViewPagination#setPlaceholderItem(net.minestom.server.item.ItemStack)}.
+     * The future can complete on any thread, the items are applied on the next tick.
+     * If the page was changed or rendered again in the meantime, the result is dropped.
+     *
+     * @param items The items of the displayed page, in the order of the slots.
+     * @return A future with the {@link PrebuiltItem}s, in the same order as the given items.
+     */
+    default @NotNull CompletableFuture<List<PrebuiltItem>> renderPage(@NotNull List<T> items) {
+        List<PrebuiltItem> prebuiltItemList = new ArrayList<>(items.size());
+        for (T item : items) {
+            prebuiltItemList.add(render(item));
+        }
+        return CompletableFuture.completedFuture(prebuiltItemList);
+    }
 }
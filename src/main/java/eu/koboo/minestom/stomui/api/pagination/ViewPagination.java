@@ -4,21 +4,28 @@ import eu.koboo.minestom.stomui.api.PlayerView;
 import eu.koboo.minestom.stomui.api.ViewRegistry;
 import eu.koboo.minestom.stomui.api.component.ViewComponent;
 import eu.koboo.minestom.stomui.api.item.PrebuiltItem;
+import eu.koboo.minestom.stomui.api.state.IntStateKey;
+import eu.koboo.minestom.stomui.api.state.ViewState;
 import eu.koboo.minestom.stomui.core.pagination.AbstractPaginationComponent;
+import eu.koboo.minestom.stomui.core.pagination.LazyPageComponent;
 import eu.koboo.minestom.stomui.core.pagination.PageComponent;
 import eu.koboo.minestom.stomui.core.pagination.ScrollComponent;
 import net.minestom.server.item.ItemStack;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Represents the abstraction of any implementing {@link ViewPagination}.
  * See more information, on how to create or use it:
  * - {@link ViewRegistry#pageable(ItemRenderer, ItemStack, List)}
+ * - {@link ViewRegistry#pageable(DataSource, ItemRenderer, ItemStack, List, int, int)}
  * - {@link ViewRegistry#scrollable(ItemRenderer, ItemStack, List)}
  * To use the created instance of {@link ViewPagination} you need to add it
  * as child to any {@link ViewComponent} Using {@link ViewComponent#addChild(ViewComponent)}.
@@ -26,9 +33,74 @@ import java.util.List;
  * - {@link AbstractPaginationComponent}
  * - {@link PageComponent}
  * - {@link ScrollComponent}
+ * - {@link LazyPageComponent}
  */
 public abstract class ViewPagination<T> extends ViewComponent {
 
+    // The components, which display the state of this pagination and are rebuilt with the page.
+    private final List<ViewComponent> pageControls = new CopyOnWriteArrayList<>();
+    // The current page is stored per view, see ViewPagination#getCurrentPage(PlayerView).
+    private final IntStateKey currentPageKey = IntStateKey.of("pagination-current-page-" + getId(), 1);
+
+    /**
+     * Adds a component, which displays the state of this pagination, e.g. "next page" buttons.
+     * Page controls are rebuilt together with the page on {@link ViewPagination#toPage(PlayerView, int)}
+     * and {@link ViewPagination#refreshPage(PlayerView)}, instead of rebuilding the whole view.
+     * <p>
+     * As soon as one page control is added, navigating the pagination only rebuilds the pagination
+     * and its page controls. So every component, which displays the state of this pagination,
+     * e.g. the current page, needs to be added as page control.
+     * Without any page controls, the whole view is rebuilt on every navigation.
+     * On shared rendered views, page controls are rendered per player, like the pagination itself.
+     *
+     * @param component The {@link ViewComponent}, which displays the state of this pagination.
+     */
+    public void addPageControl(@NotNull ViewComponent component) {
+        if (!pageControls.contains(component)) {
+            pageControls.add(component);
+            // Page controls are rendered per player, see ComponentTree#isPerPlayerRender.
+            getTree().invalidate();
+        }
+    }
+
+    /**
+     * Removes a component added by {@link ViewPagination#addPageControl(ViewComponent)}.
+     *
+     * @param component The {@link ViewComponent} to remove.
+     */
+    public void removePageControl(@NotNull ViewComponent component) {
+        if (pageControls.remove(component)) {
+            getTree().invalidate();
+        }
+    }
+
+    /**
+     * @return All components added by {@link ViewPagination#addPageControl(ViewComponent)}.
+     */
+    @ApiStatus.Internal
+    public @NotNull List<ViewComponent> getPageControls() {
+        return Collections.unmodifiableList(pageControls);
+    }
+
+    /**
+     * Rebuilds only this pagination and its page controls on the given view.
+     * If no page controls are added, the whole view is rebuilt, because any other component
+     * could display the state of this pagination.
+     *
+     * @param playerView The {@link PlayerView}, which displays the pagination.
+     */
+    @ApiStatus.Internal
+    protected void invalidatePage(@NotNull PlayerView playerView) {
+        if (pageControls.isEmpty()) {
+            playerView.executeRebuild();
+            return;
+        }
+        invalidate(playerView);
+        for (ViewComponent pageControl : pageControls) {
+            pageControl.invalidate(playerView);
+        }
+    }
+
     /**
      * This method allows you to update the {@link ItemRenderer} within the pagination.
      * The {@link ItemRenderer} is responsible to create a {@link PrebuiltItem}
@@ -51,6 +123,8 @@ public abstract class ViewPagination<T> extends ViewComponent {
      * The backed itemList gets filtered, sorted and updated automatically.
      * To apply the changes on a {@link PlayerView} you need to call
      * {@link ViewPagination#refreshPage(PlayerView)}.
+     * <p>
+     * If the sort key of an item changes, pass it to {@link ViewPagination#updateItems(Collection)}.
      *
      * @param itemSorter A {@link Comparator} with the pagination generic type item.
      */
@@ -64,11 +138,43 @@ public abstract class ViewPagination<T> extends ViewComponent {
      * The backed itemList gets filtered, sorted and updated automatically.
      * To apply the changes on a {@link PlayerView} you need to call
      * {@link ViewPagination#refreshPage(PlayerView)}.
+     * <p>
+     * The items are only filtered again on changes of the pagination. If the state of the
+     * {@link ItemFilter} itself changes, e.g. a search input, call {@link ViewPagination#refilterItems()}.
      *
      * @param itemFilter A {@link ItemFilter} with the pagination generic type item.
      */
     public abstract void setItemFilter(@Nullable ItemFilter<T> itemFilter);
 
+    /**
+     * Filters and sorts all items again with the current {@link ItemFilter} and item sorter.
+     * Needs to be called, if the state of the {@link ItemFilter} changed, e.g.:
+     * <p>
+     * filter.setTextInput(searchInput);
+     * pagination.refilterItems();
+     * pagination.refreshPage(playerView);
+     * <p>
+     * Implementations, which filter the items on every access, don't need to override this method.
+     */
+    public void refilterItems() {
+    }
+
+    /**
+     * Notifies the pagination, that the given items were changed in place,
+     * so their sort key or the result of the {@link ItemFilter} could have changed,
+     * e.g. the score of a leaderboard entry.
+     * <p>
+     * The pagination keeps its items sorted and only compares them on insertion.
+     * Items with a mutable sort key need to be passed to this method after every change,
+     * otherwise they stay at their previous position and can't be removed efficiently.
+     * <p>
+     * Implementations, which sort the items on every access, don't need to override this method.
+     *
+     * @param items The items, which were changed.
+     */
+    public void updateItems(@NotNull Collection<T> items) {
+    }
+
     /**
      * This method adds the given items to the pagination,
      * but it doesn't update the inventories of the players.
@@ -138,19 +244,92 @@ public abstract class ViewPagination<T> extends ViewComponent {
 
     /**
      * @return the currently set page, starting with 1.
+     * @deprecated The current page is stored per {@link PlayerView}, so this method only reflects
+     * the {@link PlayerView}, which rendered the pagination last. Use {@link ViewPagination#getCurrentPage(PlayerView)} instead.
      */
+    @Deprecated
     public abstract int getCurrentPage();
 
+    /**
+     * The current page is stored per {@link PlayerView} in its {@link PlayerView#getState()},
+     * so every viewer of the pagination can navigate independently.
+     *
+     * @param playerView The {@link PlayerView}, which displays the pagination.
+     * @return the currently set page of the given {@link PlayerView}, starting with 1.
+     * If the pagination has no items, it returns 0.
+     */
+    public int getCurrentPage(@NotNull PlayerView playerView) {
+        ViewState state = playerView.getState();
+        if (!state.has(currentPageKey)) {
+            // The page was never stored by ViewPagination#setCurrentPage, so the implementation
+            // only knows a single page for all views.
+            return getCurrentPage();
+        }
+        // The items could have been changed since the last navigation,
+        // so the stored page is limited to the last page.
+        return Math.min(state.get(currentPageKey), getTotalPages());
+    }
+
+    /**
+     * Stores the current page of the given {@link PlayerView}.
+     * Implementations call this method on {@link ViewPagination#toPage(PlayerView, int)},
+     * so {@link ViewPagination#getCurrentPage(PlayerView)} returns the page of each view.
+     *
+     * @param playerView The {@link PlayerView}, which displays the pagination.
+     * @param page       The new current page of the given {@link PlayerView}.
+     */
+    protected void setCurrentPage(@NotNull PlayerView playerView, int page) {
+        playerView.getState().set(currentPageKey, page);
+    }
+
+    /**
+     * @return The {@link IntStateKey}, which stores the current page in the {@link PlayerView#getState()}.
+     */
+    @ApiStatus.Internal
+    protected @NotNull IntStateKey getCurrentPageKey() {
+        return currentPageKey;
+    }
+
     /**
      * @return the next page if available. If no next page is available, it returns -1.
+     * @deprecated The current page is stored per {@link PlayerView}, so this method only reflects
+     * the {@link PlayerView}, which rendered the pagination last. Use {@link ViewPagination#getNextPage(PlayerView)} instead.
      */
+    @Deprecated
     public abstract int getNextPage();
 
+    /**
+     * @param playerView The {@link PlayerView}, which displays the pagination.
+     * @return the next page of the given {@link PlayerView} if available.
+     * If no next page is available, it returns -1.
+     */
+    public int getNextPage(@NotNull PlayerView playerView) {
+        if (!hasNextPage(playerView)) {
+            return -1;
+        }
+        return getCurrentPage(playerView) + 1;
+    }
+
     /**
      * @return the previous page if available. If no previous page is available, it returns -1.
+     * @deprecated The current page is stored per {@link PlayerView}, so this method only reflects
+     * the {@link PlayerView}, which rendered the pagination last. Use {@link ViewPagination#getPreviousPage(PlayerView)} instead.
      */
+    @Deprecated
     public abstract int getPreviousPage();
 
+    /**
+     * @param playerView The {@link PlayerView}, which displays the pagination.
+     * @return the previous page of the given {@link PlayerView} if available.
+     * If no previous page is available, it returns -1.
+     */
+    public int getPreviousPage(@NotNull PlayerView playerView) {
+        if (!hasPreviousPage(playerView)) {
+            return -1;
+        }
+        return getCurrentPage(playerView) - 1;
+    }
+
     /**
      * This method is also an equivalent for "getLastPage()".
      * So you can use it as that.
@@ -171,13 +350,24 @@ public abstract class ViewPagination<T> extends ViewComponent {
 
     /**
      * @return true, if there is a next page.
+     * @deprecated The current page is stored per {@link PlayerView}, so this method only reflects
+     * the {@link PlayerView}, which rendered the pagination last. Use {@link ViewPagination#hasNextPage(PlayerView)} instead.
      */
+    @Deprecated
     public abstract boolean hasNextPage();
 
+    /**
+     * @param playerView The {@link PlayerView}, which displays the pagination.
+     * @return true, if there is a next page for the given {@link PlayerView}.
+     */
+    public boolean hasNextPage(@NotNull PlayerView playerView) {
+        return getTotalPages() > getCurrentPage(playerView);
+    }
+
     /**
      * Increments the current page and updates the view to show the items of that page.
      * <p>
-     * This method also executes a rebuild using {@link PlayerView#executeRebuild()}.
+     * This method also rebuilds the pagination like {@link ViewPagination#toPage(PlayerView, int)}.
      *
      * @param playerView The {@link PlayerView}, which changes page of the pagination.
      */
@@ -185,13 +375,24 @@ public abstract class ViewPagination<T> extends ViewComponent {
 
     /**
      * @return true, if there is a previous page.
+     * @deprecated The current page is stored per {@link PlayerView}, so this method only reflects
+     * the {@link PlayerView}, which rendered the pagination last. Use {@link ViewPagination#hasPreviousPage(PlayerView)} instead.
      */
+    @Deprecated
     public abstract boolean hasPreviousPage();
 
+    /**
+     * @param playerView The {@link PlayerView}, which displays the pagination.
+     * @return true, if there is a previous page for the given {@link PlayerView}.
+     */
+    public boolean hasPreviousPage(@NotNull PlayerView playerView) {
+        return getCurrentPage(playerView) > 1;
+    }
+
     /**
      * Decrements the current page and updates the view to show the items of that page.
      * <p>
-     * This method also executes a rebuild using {@link PlayerView#executeRebuild()}.
+     * This method also rebuilds the pagination like {@link ViewPagination#toPage(PlayerView, int)}.
      *
      * @param playerView The {@link PlayerView}, which changes page of the pagination.
      */
@@ -199,20 +400,43 @@ public abstract class ViewPagination<T> extends ViewComponent {
 
     /**
      * @return true, if the current page is the first page.
+     * @deprecated The current page is stored per {@link PlayerView}, so this method only reflects
+     * the {@link PlayerView}, which rendered the pagination last. Use {@link ViewPagination#isFirstPage(PlayerView)} instead.
      */
+    @Deprecated
     public abstract boolean isFirstPage();
 
+    /**
+     * @param playerView The {@link PlayerView}, which displays the pagination.
+     * @return true, if the current page of the given {@link PlayerView} is the first page.
+     */
+    public boolean isFirstPage(@NotNull PlayerView playerView) {
+        return getCurrentPage(playerView) == 1;
+    }
+
     /**
      * @return true, if the current page is the last page.
+     * @deprecated The current page is stored per {@link PlayerView}, so this method only reflects
+     * the {@link PlayerView}, which rendered the pagination last. Use {@link ViewPagination#isLastPage(PlayerView)} instead.
      */
+    @Deprecated
     public abstract boolean isLastPage();
 
+    /**
+     * @param playerView The {@link PlayerView}, which displays the pagination.
+     * @return true, if the current page of the given {@link PlayerView} is the last page.
+     */
+    public boolean isLastPage(@NotNull PlayerView playerView) {
+        return getCurrentPage(playerView) == getTotalPages();
+    }
+
     /**
      * Navigates the pagination to the new given page.
      * If the page doesn't exist, is too high or too less,
      * an exception is thrown.
      * <p>
-     * This method also executes a rebuild using {@link PlayerView#executeRebuild()}.
+     * This method also rebuilds the pagination and its page controls,
+     * or the whole view, if no page controls are added, see {@link ViewPagination#addPageControl(ViewComponent)}.
      *
      * @param newPage    must be 1 or greater.
      * @param playerView The {@link PlayerView}, which changes page of the pagination.
@@ -221,9 +445,10 @@ public abstract class ViewPagination<T> extends ViewComponent {
 
     /**
      * Refreshes the current page. It's basically a shortcut for:
-     * pagination.toPage(view, pagination.getCurrentPage())
+     * pagination.toPage(view, pagination.getCurrentPage(view))
      * <p>
-     * This method also executes a rebuild using {@link PlayerView#executeRebuild()}.
+     * This method also rebuilds the pagination and its page controls,
+     * or the whole view, if no page controls are added, see {@link ViewPagination#addPageControl(ViewComponent)}.
      *
      * @param playerView The {@link PlayerView} where the page should be refreshed.
      */
@@ -234,6 +459,20 @@ public abstract class ViewPagination<T> extends ViewComponent {
      */
     public abstract @NotNull ItemStack getFillerItem();
 
+    /**
+     * Sets the item, which is displayed in the slots of the page, until the future
+     * returned by {@link ItemRenderer#renderPage(List)} completes.
+     * If the placeholderItem is set to null, the fillerItem is displayed instead.
+     *
+     * @param placeholderItem The {@link ItemStack} displayed while the page is rendered.
+     */
+    public abstract void setPlaceholderItem(@Nullable ItemStack placeholderItem);
+
+    /**
+     * @return the given placeholderItem or the fillerItem if no placeholder was set.
+     */
+    public abstract @NotNull ItemStack getPlaceholderItem();
+
     /**
      * This method returns the calculated slots amount per page
      * of the implementing pagination. For actual pages it returns
@@ -242,4 +481,13 @@ public abstract class ViewPagination<T> extends ViewComponent {
      * @return The number of maximum items per page/scroll row/column.
      */
     public abstract int getMaximumItemsPerPage();
+
+    /**
+     * The current page is stored per {@link PlayerView} and asynchronously rendered pages
+     * are applied per {@link PlayerView}, so a pagination is always rendered per player.
+     */
+    @Override
+    public boolean isPerPlayerRender() {
+        return true;
+    }
 }
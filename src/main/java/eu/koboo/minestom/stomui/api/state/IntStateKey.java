@@ -0,0 +1,59 @@
+package eu.koboo.minestom.stomui.api.state;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.PackagePrivate;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A key to store a primitive int value per {@link eu.koboo.minestom.stomui.api.PlayerView}
+ * in its {@link ViewState}, without boxing it.
+ * <p>
+ * Every key allocates a unique id, so create them once, e.g. as constant or
+ * as field of a {@link eu.koboo.minestom.stomui.api.component.ViewComponent}.
+ * Keys are compared by identity, two keys with the same name are different keys.
+ */
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class IntStateKey {
+
+    String name;
+    int defaultValue;
+    @Getter(AccessLevel.NONE)
+    @PackagePrivate
+    int id;
+
+    private IntStateKey(@NotNull String name, int defaultValue) {
+        this.name = name;
+        this.defaultValue = defaultValue;
+        this.id = ViewState.nextKeyId();
+    }
+
+    /**
+     * Creates a new {@link IntStateKey} with 0 as default value.
+     *
+     * @param name The name of the key, only used for debugging.
+     * @return A new instance of {@link IntStateKey}.
+     */
+    public static @NotNull IntStateKey of(@NotNull String name) {
+        return new IntStateKey(name, 0);
+    }
+
+    /**
+     * Creates a new {@link IntStateKey} with the given default value, which is returned
+     * if no value was set.
+     *
+     * @param name         The name of the key, only used for debugging.
+     * @param defaultValue The value returned, if no value was set.
+     * @return A new instance of {@link IntStateKey}.
+     */
+    public static @NotNull IntStateKey of(@NotNull String name, int defaultValue) {
+        return new IntStateKey(name, defaultValue);
+    }
+
+    @Override
+    public String toString() {
+        return "IntStateKey{name=" + name + ", id=" + id + "}";
+    }
+}
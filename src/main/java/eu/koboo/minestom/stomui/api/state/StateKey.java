@@ -0,0 +1,66 @@
+package eu.koboo.minestom.stomui.api.state;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.PackagePrivate;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A typed key to store an object value per {@link eu.koboo.minestom.stomui.api.PlayerView}
+ * in its {@link ViewState}. Use {@link IntStateKey} for int values, to avoid boxing.
+ * <p>
+ * Every key allocates a unique id, so create them once, e.g. as constant or
+ * as field of a {@link eu.koboo.minestom.stomui.api.component.ViewComponent}.
+ * Keys are compared by identity, two keys with the same name are different keys.
+ *
+ * @param <T> The type of the stored value.
+ */
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class StateKey<T> {
+
+    String name;
+    @Nullable
+    T defaultValue;
+    @Getter(AccessLevel.NONE)
+    @PackagePrivate
+    int id;
+
+    private StateKey(@NotNull String name, @Nullable T defaultValue) {
+        this.name = name;
+        this.defaultValue = defaultValue;
+        this.id = ViewState.nextKeyId();
+    }
+
+    /**
+     * Creates a new {@link StateKey} without a default value.
+     *
+     * @param name The name of the key, only used for debugging.
+     * @param <T>  The type of the stored value.
+     * @return A new instance of {@link StateKey}.
+     */
+    public static <T> @NotNull StateKey<T> of(@NotNull String name) {
+        return new StateKey<>(name, null);
+    }
+
+    /**
+     * Creates a new {@link StateKey} with the given default value, which is returned
+     * if no value was set. The default value is shared between all views,
+     * so it should be immutable.
+     *
+     * @param name         The name of the key, only used for debugging.
+     * @param defaultValue The value returned, if no value was set.
+     * @param <T>          The type of the stored value.
+     * @return A new instance of {@link StateKey}.
+     */
+    public static <T> @NotNull StateKey<T> of(@NotNull String name, @Nullable T defaultValue) {
+        return new StateKey<>(name, defaultValue);
+    }
+
+    @Override
+    public String toString() {
+        return "StateKey{name=" + name + ", id=" + id + "}";
+    }
+}
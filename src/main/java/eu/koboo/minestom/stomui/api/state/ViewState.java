@@ -0,0 +1,248 @@
+package eu.koboo.minestom.stomui.api.state;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stores the state of a single {@link eu.koboo.minestom.stomui.api.PlayerView}, like the current page of a pagination.
+ * Components should store their per-viewer state here instead of in their own fields,
+ * so a single component tree can be shared by all viewers.
+ * <p>
+ * The values are stored in an open-addressing hash table by the id of their key,
+ * int values of {@link IntStateKey}s are stored in a primitive array without boxing.
+ * <p>
+ * Like the {@link eu.koboo.minestom.stomui.api.PlayerView}, this class is not thread-safe.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public final class ViewState {
+
+    private static final AtomicInteger NEXT_KEY_ID = new AtomicInteger();
+    private static final int INITIAL_CAPACITY = 8;
+    // Marks an empty slot of the table, the stored keys are id + 1.
+    private static final int EMPTY = 0;
+
+    int[] keys;
+    int[] intValues;
+    Object[] objectValues;
+    int size;
+
+    @ApiStatus.Internal
+    public ViewState() {
+        this.keys = new int[INITIAL_CAPACITY];
+        this.intValues = new int[INITIAL_CAPACITY];
+        this.objectValues = new Object[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    static int nextKeyId() {
+        return NEXT_KEY_ID.getAndIncrement();
+    }
+
+    /**
+     * @param key The {@link StateKey} of the value.
+     * @param <T> The type of the value.
+     * @return The value of the given key, or the default value of the key, if no value was set.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T get(@NotNull StateKey<T> key) {
+        int slot = find(key.id);
+        if (slot == -1) {
+            return key.getDefaultValue();
+        }
+        return (T) objectValues[slot];
+    }
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   The {@link StateKey} of the value.
+     * @param value The new value.
+     * @param <T>   The type of the value.
+     */
+    public <T> void set(@NotNull StateKey<T> key, @Nullable T value) {
+        objectValues[findOrInsert(key.id)] = value;
+    }
+
+    /**
+     * @param key The {@link IntStateKey} of the value.
+     * @return The value of the given key, or the default value of the key, if no value was set.
+     */
+    public int get(@NotNull IntStateKey key) {
+        int slot = find(key.id);
+        if (slot == -1) {
+            return key.getDefaultValue();
+        }
+        return intValues[slot];
+    }
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   The {@link IntStateKey} of the value.
+     * @param value The new value.
+     */
+    public void set(@NotNull IntStateKey key, int value) {
+        intValues[findOrInsert(key.id)] = value;
+    }
+
+    /**
+     * Adds the given delta to the value of the given key.
+     * If no value was set, the delta is added to the default value of the key.
+     *
+     * @param key   The {@link IntStateKey} of the value.
+     * @param delta The delta, which is added to the value.
+     * @return The new value.
+     */
+    public int add(@NotNull IntStateKey key, int delta) {
+        int value = get(key) + delta;
+        set(key, value);
+        return value;
+    }
+
+    /**
+     * @param key The {@link StateKey} to check.
+     * @return true, if a value was set for the given key.
+     */
+    public boolean has(@NotNull StateKey<?> key) {
+        return find(key.id) != -1;
+    }
+
+    /**
+     * @param key The {@link IntStateKey} to check.
+     * @return true, if a value was set for the given key.
+     */
+    public boolean has(@NotNull IntStateKey key) {
+        return find(key.id) != -1;
+    }
+
+    /**
+     * Removes the value of the given key, so the default value is returned again.
+     *
+     * @param key The {@link StateKey} of the value.
+     */
+    public void remove(@NotNull StateKey<?> key) {
+        remove(key.id);
+    }
+
+    /**
+     * Removes the value of the given key, so the default value is returned again.
+     *
+     * @param key The {@link IntStateKey} of the value.
+     */
+    public void remove(@NotNull IntStateKey key) {
+        remove(key.id);
+    }
+
+    /**
+     * @return The count of set values.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void clear() {
+        keys = new int[INITIAL_CAPACITY];
+        intValues = new int[INITIAL_CAPACITY];
+        objectValues = new Object[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    private int find(int keyId) {
+        int storedKey = keyId + 1;
+        int mask = keys.length - 1;
+        int slot = hash(keyId) & mask;
+        while (true) {
+            int currentKey = keys[slot];
+            if (currentKey == storedKey) {
+                return slot;
+            }
+            if (currentKey == EMPTY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private int findOrInsert(int keyId) {
+        int slot = find(keyId);
+        if (slot != -1) {
+            return slot;
+        }
+        // Keep the load factor below 0.75, so the probe sequences stay short.
+        if ((size + 1) * 4 > keys.length * 3) {
+            resize();
+        }
+        int mask = keys.length - 1;
+        slot = hash(keyId) & mask;
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = keyId + 1;
+        size++;
+        return slot;
+    }
+
+    private void remove(int keyId) {
+        int slot = find(keyId);
+        if (slot == -1) {
+            return;
+        }
+        int mask = keys.length - 1;
+        // Shift the following entries back, so no probe sequence is interrupted by the removal.
+        int emptySlot = slot;
+        int nextSlot = (slot + 1) & mask;
+        while (keys[nextSlot] != EMPTY) {
+            int homeSlot = hash(keys[nextSlot] - 1) & mask;
+            // Only move the entry, if its home slot isn't between the empty slot and its current slot.
+            if (((nextSlot - homeSlot) & mask) >= ((nextSlot - emptySlot) & mask)) {
+                keys[emptySlot] = keys[nextSlot];
+                intValues[emptySlot] = intValues[nextSlot];
+                objectValues[emptySlot] = objectValues[nextSlot];
+                emptySlot = nextSlot;
+            }
+            nextSlot = (nextSlot + 1) & mask;
+        }
+        keys[emptySlot] = EMPTY;
+        intValues[emptySlot] = 0;
+        objectValues[emptySlot] = null;
+        size--;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        int[] oldIntValues = intValues;
+        Object[] oldObjectValues = objectValues;
+        int capacity = oldKeys.length * 2;
+        keys = new int[capacity];
+        intValues = new int[capacity];
+        objectValues = new Object[capacity];
+        int mask = capacity - 1;
+        for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            int storedKey = oldKeys[oldSlot];
+            if (storedKey == EMPTY) {
+                continue;
+            }
+            int slot = hash(storedKey - 1) & mask;
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = storedKey;
+            intValues[slot] = oldIntValues[oldSlot];
+            objectValues[slot] = oldObjectValues[oldSlot];
+        }
+    }
+
+    private static int hash(int keyId) {
+        // The key ids are sequential, so spread them over the whole table.
+        int hash = keyId * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
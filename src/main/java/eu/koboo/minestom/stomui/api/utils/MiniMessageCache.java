@@ -0,0 +1,158 @@
+package eu.koboo.minestom.stomui.api.utils;
+
+import lombok.experimental.UtilityClass;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class caches the deserialized {@link Component}s of {@link MiniMessage} strings,
+ * because the same names, lore lines and titles are deserialized on every rebuild.
+ * It's used by all methods of this framework, which accept a {@link MiniMessage} string.
+ * <p>
+ * The cache is bounded and can be used by all threads without locking.
+ * If it's full, entries are evicted by the clock algorithm, which approximates least recently used:
+ * Every hit marks the entry as referenced, the eviction skips referenced entries once and evicts
+ * entries, which weren't hit since the last eviction. New entries aren't referenced,
+ * so single-use strings are evicted before frequently used ones.
+ * {@link Component}s are immutable, so the cached instances can be shared safely.
+ * For strings containing changing values, use a {@link MiniMessageTemplate} instead,
+ * otherwise every value creates a new entry.
+ */
+@UtilityClass
+public class MiniMessageCache {
+
+    /**
+     * The default maximum count of cached strings.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+    private static final Map<String, CachedComponent> CACHE = new ConcurrentHashMap<>();
+    // Only one thread evicts at a time, all others just add their entry.
+    private static final AtomicBoolean EVICTING = new AtomicBoolean(false);
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static volatile int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * Returns the deserialized {@link Component} of the given {@link MiniMessage} string.
+     * The string is only deserialized, if it's not cached yet.
+     *
+     * @param miniMessage The {@link MiniMessage} string.
+     * @return The deserialized {@link Component}.
+     */
+    public @NotNull Component deserialize(@NotNull String miniMessage) {
+        CachedComponent cachedComponent = CACHE.get(miniMessage);
+        if (cachedComponent != null) {
+            // Only written if not set yet, so hot entries don't cause a write on every hit.
+            if (!cachedComponent.referenced) {
+                cachedComponent.referenced = true;
+            }
+            HITS.increment();
+            return cachedComponent.component;
+        }
+        MISSES.increment();
+        Component component = MiniMessage.miniMessage().deserialize(miniMessage);
+        if (maximumSize == 0) {
+            return component;
+        }
+        CACHE.putIfAbsent(miniMessage, new CachedComponent(component));
+        if (CACHE.size() > maximumSize) {
+            evictEntries();
+        }
+        return component;
+    }
+
+    private void evictEntries() {
+        if (!EVICTING.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Iterator<CachedComponent> iterator = CACHE.values().iterator();
+            while (CACHE.size() > maximumSize) {
+                if (!iterator.hasNext()) {
+                    // All remaining entries were referenced and are unmarked now.
+                    iterator = CACHE.values().iterator();
+                    if (!iterator.hasNext()) {
+                        return;
+                    }
+                }
+                CachedComponent cachedComponent = iterator.next();
+                if (cachedComponent.referenced) {
+                    cachedComponent.referenced = false;
+                    continue;
+                }
+                iterator.remove();
+            }
+        } finally {
+            EVICTING.set(false);
+        }
+    }
+
+    /**
+     * Sets the maximum count of cached strings. If more strings are cached,
+     * the exceeding entries are evicted directly.
+     *
+     * @param newMaximumSize The new maximum count, needs to be 0 or greater. 0 disables the cache.
+     */
+    public void setMaximumSize(int newMaximumSize) {
+        if (newMaximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must be positive or 0. " +
+                "(maximumSize=" + newMaximumSize + ")");
+        }
+        maximumSize = newMaximumSize;
+        if (newMaximumSize == 0) {
+            CACHE.clear();
+            return;
+        }
+        evictEntries();
+    }
+
+    /**
+     * @return The count of deserializations, which were served by the cache.
+     */
+    public long getHits() {
+        return HITS.sum();
+    }
+
+    /**
+     * @return The count of deserializations, which needed to deserialize the string.
+     */
+    public long getMisses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * @return The count of currently cached strings.
+     */
+    public int size() {
+        return CACHE.size();
+    }
+
+    /**
+     * Removes all cached strings and resets the hits and misses.
+     */
+    public void clear() {
+        CACHE.clear();
+        HITS.reset();
+        MISSES.reset();
+    }
+
+    private static final class CachedComponent {
+
+        final Component component;
+        // Set on every hit and reset by the eviction, see MiniMessageCache#evictEntries.
+        volatile boolean referenced;
+
+        CachedComponent(@NotNull Component component) {
+            this.component = component;
+            this.referenced = false;
+        }
+    }
+}
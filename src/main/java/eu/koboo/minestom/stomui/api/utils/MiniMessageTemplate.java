@@ -0,0 +1,169 @@
+package eu.koboo.minestom.stomui.api.utils;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * A {@link MiniMessage} string, which is parsed only once and contains placeholders,
+ * which are replaced on every render, e.g.:
+ * <p>
+ * MiniMessageTemplate template = MiniMessageTemplate.compile("<gray>Page: <yellow><page>", "page");
+ * Component component = template.renderText(String.valueOf(currentPage));
+ * <p>
+ * Rendering a template doesn't parse the string again, the placeholders are replaced
+ * in the already parsed {@link Component} tree. Use this instead of concatenating
+ * changing values into a {@link MiniMessage} string, which needs to be parsed on every change
+ * and would fill the {@link MiniMessageCache} with single-use entries.
+ * <p>
+ * The values inherit the style of the placeholder, like placeholders of {@link MiniMessage} itself.
+ * Instances are immutable and can be shared by all views.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class MiniMessageTemplate {
+
+    // The default post processor compacts the components, which would merge
+    // the markers into the surrounding text, so the markers can't be found anymore.
+    private static final MiniMessage TEMPLATE_PARSER = MiniMessage.builder()
+        .postProcessor(UnaryOperator.identity())
+        .build();
+    // The markers are empty text components with an insertion of the marker prefix and the placeholder index.
+    // The prefix is random for every template, so neither the template text nor an insertion tag can produce a marker.
+    private static final String MARKER_PREFIX = "stomui-template-";
+
+    Component parsedTemplate;
+    String[] placeholderNames;
+    String markerPrefix;
+
+    private MiniMessageTemplate(@NotNull Component parsedTemplate,
+                                @NotNull String[] placeholderNames,
+                                @NotNull String markerPrefix) {
+        this.parsedTemplate = parsedTemplate;
+        this.placeholderNames = placeholderNames;
+        this.markerPrefix = markerPrefix;
+    }
+
+    /**
+     * Parses the given {@link MiniMessage} string once.
+     *
+     * @param template         The {@link MiniMessage} string, which contains the placeholders as tags, e.g. "&lt;page&gt;".
+     * @param placeholderNames The names of the placeholders, in the order of the values passed on rendering.
+     * @return The new {@link MiniMessageTemplate}.
+     */
+    public static @NotNull MiniMessageTemplate compile(@NotNull String template, @NotNull String... placeholderNames) {
+        String markerPrefix = MARKER_PREFIX + IdGenerator.generateRandomString(16) + "-";
+        TagResolver.Builder resolverBuilder = TagResolver.builder();
+        for (int placeholderIndex = 0; placeholderIndex < placeholderNames.length; placeholderIndex++) {
+            Component marker = Component.text().insertion(markerPrefix + placeholderIndex).build();
+            resolverBuilder.resolver(Placeholder.component(placeholderNames[placeholderIndex], marker));
+        }
+        Component parsedTemplate = TEMPLATE_PARSER.deserialize(template, resolverBuilder.build());
+        return new MiniMessageTemplate(parsedTemplate, placeholderNames.clone(), markerPrefix);
+    }
+
+    /**
+     * Replaces the placeholders with the given {@link Component}s.
+     *
+     * @param values The values of the placeholders, in the order of the names passed on compiling.
+     * @return The rendered {@link Component}.
+     */
+    public @NotNull Component render(@NotNull Component... values) {
+        if (values.length != placeholderNames.length) {
+            throw new IllegalArgumentException("The template needs " + placeholderNames.length + " values. " +
+                "(values=" + values.length + ")");
+        }
+        if (values.length == 0) {
+            return parsedTemplate;
+        }
+        return replace(parsedTemplate, values);
+    }
+
+    /**
+     * Replaces the placeholders with the given strings. The strings are inserted as plain text,
+     * so they aren't parsed as {@link MiniMessage} tags.
+     *
+     * @param values The values of the placeholders, in the order of the names passed on compiling.
+     * @return The rendered {@link Component}.
+     */
+    public @NotNull Component renderText(@NotNull String... values) {
+        Component[] components = new Component[values.length];
+        for (int valueIndex = 0; valueIndex < values.length; valueIndex++) {
+            components[valueIndex] = Component.text(values[valueIndex]);
+        }
+        return render(components);
+    }
+
+    /**
+     * @return The names of the placeholders, in the order of the values passed on rendering.
+     */
+    public @NotNull String[] getPlaceholderNames() {
+        return placeholderNames.clone();
+    }
+
+    private @NotNull Component replace(@NotNull Component component, @NotNull Component[] values) {
+        if (component instanceof TextComponent textComponent) {
+            int placeholderIndex = getPlaceholderIndex(textComponent, values.length);
+            if (placeholderIndex != -1) {
+                // The insertion only identifies the marker, so it's not passed to the value.
+                Component value = values[placeholderIndex].applyFallbackStyle(component.style().insertion(null));
+                List<Component> markerChildren = replaceChildren(component.children(), values);
+                if (markerChildren.isEmpty()) {
+                    return value;
+                }
+                List<Component> valueChildren = new ArrayList<>(value.children());
+                valueChildren.addAll(markerChildren);
+                return value.children(valueChildren);
+            }
+        }
+        List<Component> children = component.children();
+        List<Component> replacedChildren = replaceChildren(children, values);
+        // Only create a new component, if a placeholder was found in the children.
+        if (replacedChildren == children) {
+            return component;
+        }
+        return component.children(replacedChildren);
+    }
+
+    private @NotNull List<Component> replaceChildren(@NotNull List<Component> children, @NotNull Component[] values) {
+        List<Component> replacedChildren = null;
+        for (int childIndex = 0; childIndex < children.size(); childIndex++) {
+            Component child = children.get(childIndex);
+            Component replacedChild = replace(child, values);
+            if (replacedChild == child && replacedChildren == null) {
+                continue;
+            }
+            if (replacedChildren == null) {
+                replacedChildren = new ArrayList<>(children.size());
+                replacedChildren.addAll(children.subList(0, childIndex));
+            }
+            replacedChildren.add(replacedChild);
+        }
+        return replacedChildren == null ? children : replacedChildren;
+    }
+
+    private int getPlaceholderIndex(@NotNull TextComponent textComponent, int placeholderCount) {
+        String insertion = textComponent.insertion();
+        if (insertion == null || !textComponent.content().isEmpty() || !insertion.startsWith(markerPrefix)) {
+            return -1;
+        }
+        int placeholderIndex;
+        try {
+            placeholderIndex = Integer.parseInt(insertion.substring(markerPrefix.length()));
+        } catch (NumberFormatException exception) {
+            return -1;
+        }
+        if (placeholderIndex < 0 || placeholderIndex >= placeholderCount) {
+            return -1;
+        }
+        return placeholderIndex;
+    }
+}
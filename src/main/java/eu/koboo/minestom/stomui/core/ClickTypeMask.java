@@ -0,0 +1,52 @@
+package eu.koboo.minestom.stomui.core;
+
+import lombok.experimental.UtilityClass;
+import net.minestom.server.inventory.click.Click;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This utility class assigns every {@link Click} type a unique bit index,
+ * so the disabled click types of a {@link CorePlayerView} can be stored as a single bitmask.
+ * The bit index is resolved once per class and cached afterward.
+ */
+@ApiStatus.Internal
+@UtilityClass
+public class ClickTypeMask {
+
+    private final AtomicInteger NEXT_BIT_INDEX = new AtomicInteger();
+    private final ClassValue<Long> CLICK_TYPE_MASKS = new ClassValue<>() {
+        @Override
+        protected Long computeValue(@NotNull Class<?> type) {
+            int bitIndex = NEXT_BIT_INDEX.getAndIncrement();
+            if (bitIndex >= Long.SIZE) {
+                throw new IllegalStateException("Can't register more than " + Long.SIZE + " click types. " +
+                    "(type=" + type.getName() + ")");
+            }
+            return 1L << bitIndex;
+        }
+    };
+
+    /**
+     * @param clickType The class of the {@link Click} type.
+     * @return The bitmask of the given {@link Click} type, with only its bit index set.
+     */
+    public long of(@NotNull Class<? extends Click> clickType) {
+        return CLICK_TYPE_MASKS.get(clickType);
+    }
+
+    /**
+     * @param clickTypes The classes of the {@link Click} types.
+     * @return The bitmask of all given {@link Click} types.
+     */
+    public long of(@NotNull Collection<Class<? extends Click>> clickTypes) {
+        long mask = 0L;
+        for (Class<? extends Click> clickType : clickTypes) {
+            mask |= of(clickType);
+        }
+        return mask;
+    }
+}
@@ -3,28 +3,38 @@ package eu.koboo.minestom.stomui.core;
 import eu.koboo.minestom.stomui.api.PlayerView;
 import eu.koboo.minestom.stomui.api.ViewBuilder;
 import eu.koboo.minestom.stomui.api.ViewType;
+import eu.koboo.minestom.stomui.api.component.ComponentTree;
+import eu.koboo.minestom.stomui.api.component.SharedRenderSnapshot;
+import eu.koboo.minestom.stomui.api.component.ViewComponent;
 import eu.koboo.minestom.stomui.api.component.ViewProvider;
 import eu.koboo.minestom.stomui.api.flags.Flag;
+import eu.koboo.minestom.stomui.api.flags.Flags;
 import eu.koboo.minestom.stomui.api.interaction.Interaction;
 import eu.koboo.minestom.stomui.api.interaction.Interactions;
+import eu.koboo.minestom.stomui.api.slots.SlotUtility;
+import eu.koboo.minestom.stomui.api.state.ViewState;
 import eu.koboo.minestom.stomui.api.utils.BottomSlotUtility;
 import eu.koboo.minestom.stomui.api.utils.IdGenerator;
+import eu.koboo.minestom.stomui.api.utils.MiniMessageCache;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
 import net.minestom.server.inventory.Inventory;
 import net.minestom.server.inventory.PlayerInventory;
 import net.minestom.server.inventory.click.Click;
 import net.minestom.server.item.ItemStack;
+import net.minestom.server.timer.TaskSchedule;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Slf4j
 @Getter
@@ -32,6 +42,10 @@ import java.util.*;
 @ApiStatus.Internal
 public final class CorePlayerView implements PlayerView {
 
+    // This slot describes multiple clicks, e.g. outside the inventory
+    // or a start drag. It's stored after the last bottom slot in the per-slot arrays.
+    private static final int MAGIC = -999;
+
     final CoreViewRegistry registry;
     final String id;
     final ViewType type;
@@ -41,16 +55,60 @@ public final class CorePlayerView implements PlayerView {
     final PlayerInventory bottomInventory;
 
     final ViewProvider provider;
-    final Map<Integer, Interaction> interactions;
-    final Set<Flag> addedFlags;
-    final Set<Class<? extends Click>> disabledClickTypes;
+    final ViewState state;
+    // Indexed by the slot index, see CorePlayerView#toSlotIndex.
+    @Getter(AccessLevel.NONE)
+    final Interaction[] interactions;
+    // The masks of all added flags, see Flag#mask.
+    @Getter(AccessLevel.NONE)
+    long flagMask;
+    // The masks of all disabled click types, see ClickTypeMask.
+    @Getter(AccessLevel.NONE)
+    final long disabledClickTypeMask;
 
     final long clickCooldown;
     final long slotClickCooldown;
+    @Getter(AccessLevel.NONE)
+    final long clickCooldownNanos;
+    @Getter(AccessLevel.NONE)
+    final long slotClickCooldownNanos;
 
-    final Map<Integer, Long> slotClickCooldownMap;
+    // The cooldown deadlines are System#nanoTime values, which can overflow,
+    // so they are only compared by their difference to the current time.
+    // Indexed by the slot index, see CorePlayerView#toSlotIndex.
+    @Getter(AccessLevel.NONE)
+    final long[] slotClickCooldowns;
     long clickCooldownUntil;
 
+    // Shadow buffer of all item changes, which are not sent yet.
+    // Indexed by the raw slot, null means no pending change.
+    @Getter(AccessLevel.NONE)
+    final ItemStack[] pendingItems;
+    @Getter(AccessLevel.NONE)
+    final int[] pendingSlots;
+    @Getter(AccessLevel.NONE)
+    int pendingSlotCount;
+    @Getter(AccessLevel.NONE)
+    int updateDepth;
+
+    @Getter(AccessLevel.NONE)
+    final Set<ViewComponent> invalidatedComponents;
+    @Getter(AccessLevel.NONE)
+    boolean fullRebuildPending;
+
+    // Only allocated while rendering the shared components, see Flags#SHARED_RENDER.
+    // Indexed by the slot index, see CorePlayerView#toSlotIndex.
+    @Getter(AccessLevel.NONE)
+    ItemStack[] recordedItems;
+    @Getter(AccessLevel.NONE)
+    Interaction[] recordedInteractions;
+    @Getter(AccessLevel.NONE)
+    boolean[] interactionRecorded;
+    // True, if this view called ViewComponent#onOpen of the shared components,
+    // instead of copying the snapshot of another view, see Flags#SHARED_RENDER.
+    @Getter(AccessLevel.NONE)
+    boolean sharedComponentsOpened;
+
     public CorePlayerView(@NotNull CoreViewRegistry registry,
                           @NotNull Player player,
                           @NotNull ViewBuilder builder) {
@@ -63,108 +121,346 @@ public final class CorePlayerView implements PlayerView {
         this.bottomInventory = player.getInventory();
 
         this.provider = builder.getProvider();
+        this.state = new ViewState();
 
-        this.interactions = new HashMap<>();
+        int rawSlotCount = type.getLastBottomSlot() + 1;
+        // One additional index for the magic slot.
+        this.interactions = new Interaction[rawSlotCount + 1];
 
-        this.addedFlags = new HashSet<>();
-        this.addedFlags.addAll(builder.getFlags());
+        this.flagMask = 0L;
+        for (Flag flag : builder.getFlags()) {
+            this.flagMask |= flag.mask();
+        }
 
-        this.disabledClickTypes = new HashSet<>();
-        this.disabledClickTypes.addAll(builder.getDisabledClickTypes());
+        this.disabledClickTypeMask = ClickTypeMask.of(builder.getDisabledClickTypes());
 
         this.clickCooldown = builder.getClickCooldownInMillis();
         this.slotClickCooldown = builder.getSlotClickCooldownInMillis();
 
-        this.slotClickCooldownMap = new HashMap<>();
-        this.clickCooldownUntil = Instant.now().toEpochMilli();
+        this.clickCooldownNanos = TimeUnit.MILLISECONDS.toNanos(clickCooldown);
+        this.slotClickCooldownNanos = TimeUnit.MILLISECONDS.toNanos(slotClickCooldown);
+
+        long now = System.nanoTime();
+        this.slotClickCooldowns = new long[rawSlotCount + 1];
+        Arrays.fill(this.slotClickCooldowns, now);
+        this.clickCooldownUntil = now;
+
+        this.pendingItems = new ItemStack[rawSlotCount];
+        this.pendingSlots = new int[rawSlotCount];
+        this.pendingSlotCount = 0;
+        this.updateDepth = 0;
+
+        this.invalidatedComponents = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.fullRebuildPending = false;
+        this.sharedComponentsOpened = false;
     }
 
     @ApiStatus.Internal
     public void openView(boolean callComponentOpen) {
-        if (callComponentOpen) {
-            registry.executeComponents(
-                provider,
-                component -> component.onOpen(this, player)
-            );
+        // The open and the first rebuild are rendered into the not yet opened inventory,
+        // so the client receives the complete contents together with the open packet.
+        beginUpdate();
+        try {
+            if (hasFlag(Flags.SHARED_RENDER)) {
+                renderShared(callComponentOpen);
+                if (callComponentOpen) {
+                    executePerPlayer(component -> component.onOpen(this, player));
+                }
+            } else if (callComponentOpen) {
+                registry.executeComponents(
+                    provider,
+                    component -> component.onOpen(this, player)
+                );
+            }
+            // Nested update, so the rebuild is flushed together with the open.
+            executeRebuildNow();
+        } finally {
+            flushUpdate();
         }
         player.openInventory(topInventory);
-        executeRebuild();
     }
 
     @ApiStatus.Internal
     public void closeView() {
-        registry.executeComponents(
-            provider,
-            component -> component.onClose(this, player)
-        );
+        if (hasFlag(Flags.SHARED_RENDER) && !sharedComponentsOpened) {
+            // The shared components were never opened on this view,
+            // because it only copied the snapshot of another view.
+            executePerPlayer(component -> component.onClose(this, player));
+        } else {
+            registry.executeComponents(
+                provider,
+                component -> component.onClose(this, player)
+            );
+        }
         registry.unregisterPlayerView(player);
     }
 
+    /**
+     * Starts collecting all item changes into the shadow buffer,
+     * instead of sending them directly to the client.
+     * Every call needs to be followed by {@link CorePlayerView#flushUpdate()}.
+     */
+    @ApiStatus.Internal
+    public void beginUpdate() {
+        updateDepth++;
+    }
+
+    /**
+     * Sends all collected item changes, if this is the outermost update.
+     * Slots, which didn't change since the last flush, are skipped.
+     * If most of the slots of an inventory changed, the whole inventory
+     * is sent with a single window-items packet instead.
+     */
+    @ApiStatus.Internal
+    public void flushUpdate() {
+        if (updateDepth > 0) {
+            updateDepth--;
+        }
+        if (updateDepth > 0 || pendingSlotCount == 0) {
+            return;
+        }
+
+        // Drop all pending items, which are equal to the already sent items.
+        int changedTopSlots = 0;
+        int changedBottomSlots = 0;
+        for (int i = 0; i < pendingSlotCount; i++) {
+            int rawSlot = pendingSlots[i];
+            ItemStack pendingItem = pendingItems[rawSlot];
+            ItemStack sentItem = getSentItemStack(rawSlot);
+            if (pendingItem == sentItem || pendingItem.equals(sentItem)) {
+                pendingItems[rawSlot] = null;
+                continue;
+            }
+            if (type.isTopSlot(rawSlot)) {
+                changedTopSlots++;
+            } else {
+                changedBottomSlots++;
+            }
+        }
+
+        boolean sendTopContents = changedTopSlots > type.getSize() / 2;
+        boolean sendBottomContents = changedBottomSlots > SlotUtility.BOTTOM_INVENTORY_SIZE / 2;
+        ItemStack[] topContents = sendTopContents ? topInventory.getItemStacks() : null;
+        ItemStack[] bottomContents = sendBottomContents ? bottomInventory.getItemStacks() : null;
+
+        for (int i = 0; i < pendingSlotCount; i++) {
+            int rawSlot = pendingSlots[i];
+            ItemStack pendingItem = pendingItems[rawSlot];
+            if (pendingItem == null) {
+                continue;
+            }
+            pendingItems[rawSlot] = null;
+            if (type.isTopSlot(rawSlot)) {
+                if (sendTopContents) {
+                    topContents[rawSlot] = pendingItem;
+                    continue;
+                }
+                topInventory.setItemStack(rawSlot, pendingItem);
+                continue;
+            }
+            int bottomSlot = toBottomSlot(rawSlot);
+            if (sendBottomContents) {
+                bottomContents[bottomSlot] = pendingItem;
+                continue;
+            }
+            bottomInventory.setItemStack(bottomSlot, pendingItem);
+        }
+        pendingSlotCount = 0;
+
+        if (sendTopContents) {
+            topInventory.copyContents(topContents);
+        }
+        if (sendBottomContents) {
+            bottomInventory.copyContents(bottomContents);
+        }
+    }
+
     @ApiStatus.Internal
     public boolean hasCooldown(int slot) {
-        Instant now = Instant.now();
-        Instant clickInstant = Instant.ofEpochMilli(clickCooldownUntil);
-        if (clickInstant.isAfter(now)) {
+        if (!isValidRawSlot(slot)) {
+            // Slots outside the view can't be clicked, so they never have a cooldown.
+            return false;
+        }
+        long now = System.nanoTime();
+        if (now - clickCooldownUntil < 0) {
             return true;
         }
-        clickCooldownUntil = now.toEpochMilli() + clickCooldown;
+        clickCooldownUntil = now + clickCooldownNanos;
 
-        long slotClick = slotClickCooldownMap.computeIfAbsent(slot, key -> 0L);
-        Instant slotClickInstant = Instant.ofEpochMilli(slotClick);
-        if (slotClickInstant.isAfter(now)) {
+        int slotIndex = toSlotIndex(slot);
+        if (now - slotClickCooldowns[slotIndex] < 0) {
             return true;
         }
-        slotClick = now.toEpochMilli() + slotClickCooldown;
-        slotClickCooldownMap.put(slot, slotClick);
+        slotClickCooldowns[slotIndex] = now + slotClickCooldownNanos;
         return false;
     }
 
+    @Override
+    public long getRemainingCooldown(int rawSlot) {
+        long remainingNanos = getRemainingCooldownNanos(rawSlot, System.nanoTime());
+        // Round up, so a remaining cooldown is never reported as 0.
+        return (remainingNanos + 999_999L) / 1_000_000L;
+    }
+
+    private long getRemainingCooldownNanos(int rawSlot, long now) {
+        long remainingClick = clickCooldownUntil - now;
+        long remainingSlotClick = slotClickCooldowns[toSlotIndex(rawSlot)] - now;
+        return Math.max(0L, Math.max(remainingClick, remainingSlotClick));
+    }
+
+    @Override
+    public void onCooldownExpired(int rawSlot, @NotNull Runnable callback) {
+        long remainingNanos = getRemainingCooldownNanos(rawSlot, System.nanoTime());
+        if (remainingNanos == 0) {
+            callback.run();
+            return;
+        }
+        long remainingMillis = (remainingNanos + 999_999L) / 1_000_000L;
+        MinecraftServer.getSchedulerManager()
+            .buildTask(() -> {
+                // The view was closed in the meantime.
+                if (registry.getCurrentView(player) != this) {
+                    return;
+                }
+                // The cooldown was extended by another click, so wait again.
+                onCooldownExpired(rawSlot, callback);
+            })
+            .delay(TaskSchedule.millis(remainingMillis))
+            .schedule();
+    }
+
     @Override
     public void addFlags(@NotNull Flag... flags) {
-        addedFlags.addAll(List.of(flags));
+        for (Flag flag : flags) {
+            flagMask |= flag.mask();
+        }
+    }
+
+    @Override
+    public boolean hasFlag(@NotNull Flag flag) {
+        return (flagMask & flag.mask()) != 0L;
     }
 
     @Override
     public boolean hasFlags(@NotNull Flag... flags) {
-        return addedFlags.containsAll(List.of(flags));
+        long mask = 0L;
+        for (Flag flag : flags) {
+            mask |= flag.mask();
+        }
+        return (flagMask & mask) == mask;
     }
 
     @Override
     public void removeFlags(@NotNull Flag... flags) {
-        List.of(flags).forEach(addedFlags::remove);
+        for (Flag flag : flags) {
+            flagMask &= ~flag.mask();
+        }
+    }
+
+    @Override
+    public boolean isClickTypeDisabled(@NotNull Class<? extends Click> clickType) {
+        return (disabledClickTypeMask & ClickTypeMask.of(clickType)) != 0L;
     }
 
     @Override
     public void setInteraction(int rawSlot, @NotNull Interaction interaction) {
-        interactions.put(rawSlot, interaction);
+        putInteraction(toSlotIndex(rawSlot), interaction);
+    }
+
+    private void putInteraction(int slotIndex, @Nullable Interaction interaction) {
+        interactions[slotIndex] = interaction;
+        if (recordedInteractions != null) {
+            recordedInteractions[slotIndex] = interaction;
+            interactionRecorded[slotIndex] = true;
+        }
     }
 
     @Override
     public void setItemStack(int rawSlot, @NotNull ItemStack itemStack) {
+        if (recordedItems != null) {
+            recordedItems[rawSlot] = itemStack;
+        }
+        if (updateDepth > 0) {
+            if (pendingItems[rawSlot] == null) {
+                pendingSlots[pendingSlotCount++] = rawSlot;
+            }
+            pendingItems[rawSlot] = itemStack;
+            return;
+        }
         if (type.isTopSlot(rawSlot)) {
             topInventory.setItemStack(rawSlot, itemStack);
             return;
         }
-        int firstBottomSlot = type.getFirstBottomSlot();
-        int conversionSlot = rawSlot - firstBottomSlot;
-        int expectedSlot = BottomSlotUtility.denormalizeBottomSlot(conversionSlot);
-        bottomInventory.setItemStack(expectedSlot, itemStack);
+        bottomInventory.setItemStack(toBottomSlot(rawSlot), itemStack);
     }
 
     @Override
     public @NotNull ItemStack getItemStack(int rawSlot) {
+        ItemStack pendingItem = pendingItems[rawSlot];
+        if (pendingItem != null) {
+            return pendingItem;
+        }
+        return getSentItemStack(rawSlot);
+    }
+
+    private @NotNull ItemStack getSentItemStack(int rawSlot) {
         if (type.isTopSlot(rawSlot)) {
             return topInventory.getItemStack(rawSlot);
         }
+        return bottomInventory.getItemStack(toBottomSlot(rawSlot));
+    }
+
+    /**
+     * Converts the raw slot to the index of the per-slot arrays.
+     * The magic slot is stored after the last bottom slot.
+     */
+    /**
+     * Checks if the given raw slot is part of the view type or the magic slot,
+     * e.g. before passing a slot of a click packet.
+     *
+     * @param rawSlot The raw slot to check.
+     * @return true, if the raw slot can be used with this view.
+     */
+    @ApiStatus.Internal
+    public boolean isValidRawSlot(int rawSlot) {
+        return rawSlot == MAGIC || (rawSlot >= 0 && rawSlot < interactions.length - 1);
+    }
+
+    private int toSlotIndex(int rawSlot) {
+        if (rawSlot == MAGIC) {
+            return interactions.length - 1;
+        }
+        if (!isValidRawSlot(rawSlot)) {
+            throw new IllegalArgumentException("rawSlot is out of range for view type " + type.name() + ". " +
+                "(rawSlot=" + rawSlot + ", lastBottomSlot=" + type.getLastBottomSlot() + ")");
+        }
+        return rawSlot;
+    }
+
+    private int toBottomSlot(int rawSlot) {
         int firstBottomSlot = type.getFirstBottomSlot();
         int conversionSlot = rawSlot - firstBottomSlot;
-        int expectedSlot = BottomSlotUtility.denormalizeBottomSlot(conversionSlot);
-        return bottomInventory.getItemStack(expectedSlot);
+        return BottomSlotUtility.denormalizeBottomSlot(conversionSlot);
+    }
+
+    /**
+     * Returns the {@link Interaction} of the given slot straight from the per-slot array.
+     * Used by the click listener, so no fallback interaction is resolved for slots without one.
+     *
+     * @param rawSlot The raw slot of the {@link Interaction}.
+     * @return The {@link Interaction}, or null if no {@link Interaction} was set or the slot is out of range.
+     */
+    @ApiStatus.Internal
+    public @Nullable Interaction findInteraction(int rawSlot) {
+        if (!isValidRawSlot(rawSlot)) {
+            return null;
+        }
+        return interactions[toSlotIndex(rawSlot)];
     }
 
     @Override
     public @NotNull Interaction getInteraction(int rawSlot) {
-        Interaction interaction = interactions.get(rawSlot);
+        Interaction interaction = interactions[toSlotIndex(rawSlot)];
         if (interaction == null) {
             return Interactions.cancel();
         }
@@ -173,11 +469,185 @@ public final class CorePlayerView implements PlayerView {
 
     @Override
     public void executeRebuild() {
+        if (hasFlag(Flags.COALESCE_REBUILDS)) {
+            log.trace("{} -> Scheduling rebuild.", player.getUsername());
+            fullRebuildPending = true;
+            registry.scheduleRebuild(this);
+            return;
+        }
+        executeRebuildNow();
+    }
+
+    @Override
+    public void invalidate(@NotNull ViewComponent component) {
+        ComponentTree tree = provider.getTree();
+        if (hasFlag(Flags.SHARED_RENDER) && tree.contains(component) && !tree.isPerPlayerRender(component)) {
+            // Shared components look the same on every view, so all views of the provider are updated.
+            provider.invalidateSharedRender();
+            return;
+        }
+        invalidatedComponents.add(component);
+        if (hasFlag(Flags.COALESCE_REBUILDS)) {
+            log.trace("{} -> Scheduling rebuild of {}.", player.getUsername(), component);
+            registry.scheduleRebuild(this);
+            return;
+        }
+        executeInvalidatedRebuild();
+    }
+
+    /**
+     * Executes the rebuild, which was scheduled by {@link Flags#COALESCE_REBUILDS}.
+     * Only rebuilds the invalidated components, if no full rebuild was requested.
+     */
+    @ApiStatus.Internal
+    public void executePendingRebuild() {
+        if (fullRebuildPending) {
+            executeRebuildNow();
+            return;
+        }
+        executeInvalidatedRebuild();
+    }
+
+    /**
+     * Rebuilds the view directly, ignoring the {@link Flags#COALESCE_REBUILDS} flag.
+     */
+    @ApiStatus.Internal
+    public void executeRebuildNow() {
         log.trace("{} -> Executing rebuild.", player.getUsername());
-        registry.executeComponents(
-            provider,
-            component -> component.onRebuild(this, player)
-        );
+        fullRebuildPending = false;
+        invalidatedComponents.clear();
+        beginUpdate();
+        try {
+            if (hasFlag(Flags.SHARED_RENDER)) {
+                renderShared(false);
+                executePerPlayer(component -> component.onRebuild(this, player));
+            } else {
+                registry.executeComponents(
+                    provider,
+                    component -> component.onRebuild(this, player)
+                );
+            }
+        } finally {
+            flushUpdate();
+        }
+    }
+
+    /**
+     * Copies the snapshot of the shared components from the provider, if it's up to date.
+     * Otherwise, renders the shared components into this view, while recording all changed slots
+     * into a new snapshot, which is used by all other views of the provider.
+     *
+     * @param callComponentOpen true, if the shared components need to be rendered from scratch.
+     */
+    private void renderShared(boolean callComponentOpen) {
+        int version = provider.getSharedRenderVersion();
+        SharedRenderSnapshot snapshot = provider.getSharedRenderSnapshot();
+        if (snapshot != null && snapshot.getVersion() == version) {
+            applySnapshot(snapshot);
+            return;
+        }
+        log.trace("{} -> Rendering shared components.", player.getUsername());
+        recordedItems = new ItemStack[interactions.length];
+        recordedInteractions = new Interaction[interactions.length];
+        interactionRecorded = new boolean[interactions.length];
+        SharedRenderSnapshot newSnapshot;
+        try {
+            if (callComponentOpen) {
+                // Rendered from scratch, so nothing of the previous snapshot is kept.
+                snapshot = null;
+                executeShared(component -> component.onOpen(this, player));
+                sharedComponentsOpened = true;
+            } else {
+                executeShared(this::clearOwnedSlots);
+            }
+            executeShared(component -> component.onRebuild(this, player));
+            newSnapshot = SharedRenderSnapshot.merge(
+                snapshot,
+                version,
+                recordedItems,
+                recordedInteractions,
+                interactionRecorded
+            );
+        } finally {
+            recordedItems = null;
+            recordedInteractions = null;
+            interactionRecorded = null;
+        }
+        provider.setSharedRenderSnapshot(newSnapshot);
+        // Slots of the previous snapshot, which were not rendered again, are applied too.
+        applySnapshot(newSnapshot);
+    }
+
+    private void applySnapshot(@NotNull SharedRenderSnapshot snapshot) {
+        ItemStack[] items = snapshot.getItems();
+        Interaction[] sharedInteractions = snapshot.getInteractions();
+        boolean[] renderedInteractions = snapshot.getRenderedInteractions();
+        for (int slotIndex : snapshot.getSlotIndices()) {
+            ItemStack itemStack = items[slotIndex];
+            if (itemStack != null) {
+                // Items are never rendered into the magic slot, so the slot index is the raw slot.
+                setItemStack(slotIndex, itemStack);
+            }
+            if (renderedInteractions[slotIndex]) {
+                interactions[slotIndex] = sharedInteractions[slotIndex];
+            }
+        }
+    }
+
+    private void executeShared(@NotNull Consumer<ViewComponent> function) {
+        ComponentTree tree = provider.getTree();
+        registry.executeComponents(provider, component -> {
+            if (tree.isPerPlayerRender(component)) {
+                return;
+            }
+            function.accept(component);
+        });
+    }
+
+    private void executePerPlayer(@NotNull Consumer<ViewComponent> function) {
+        ComponentTree tree = provider.getTree();
+        registry.executeComponents(provider, component -> {
+            if (!tree.isPerPlayerRender(component)) {
+                return;
+            }
+            function.accept(component);
+        });
+    }
+
+    private void executeInvalidatedRebuild() {
+        if (invalidatedComponents.isEmpty()) {
+            return;
+        }
+        log.trace("{} -> Executing rebuild of {} invalidated components.", player.getUsername(), invalidatedComponents.size());
+        beginUpdate();
+        try {
+            rebuildInvalidatedComponents(provider);
+        } finally {
+            invalidatedComponents.clear();
+            flushUpdate();
+        }
+    }
+
+    private void rebuildInvalidatedComponents(@NotNull ViewComponent component) {
+        if (invalidatedComponents.contains(component)) {
+            registry.executeComponents(component, this::clearOwnedSlots);
+            registry.executeComponents(
+                component,
+                invalidatedComponent -> invalidatedComponent.onRebuild(this, player)
+            );
+            return;
+        }
+        List<ViewComponent> children = component.getChildren();
+        for (int i = 0; i < children.size(); i++) {
+            rebuildInvalidatedComponents(children.get(i));
+        }
+    }
+
+    private void clearOwnedSlots(@NotNull ViewComponent component) {
+        for (Integer rawSlot : component.getOwnedSlots(this)) {
+            setItemStack(rawSlot, ItemStack.AIR);
+            putInteraction(toSlotIndex(rawSlot), null);
+        }
     }
 
     @Override
@@ -187,7 +657,7 @@ public final class CorePlayerView implements PlayerView {
 
     @Override
     public void setTitle(@NotNull String miniMessage) {
-        setTitle(MiniMessage.miniMessage().deserialize(miniMessage));
+        setTitle(MiniMessageCache.deserialize(miniMessage));
     }
 
     @Override
@@ -3,7 +3,9 @@ package eu.koboo.minestom.stomui.core;
 import eu.koboo.minestom.stomui.api.PlayerView;
 import eu.koboo.minestom.stomui.api.ViewBuilder;
 import eu.koboo.minestom.stomui.api.ViewRegistry;
+import eu.koboo.minestom.stomui.api.ViewType;
 import eu.koboo.minestom.stomui.api.component.ViewComponent;
+import eu.koboo.minestom.stomui.api.pagination.DataSource;
 import eu.koboo.minestom.stomui.api.pagination.ItemRenderer;
 import eu.koboo.minestom.stomui.api.pagination.ViewPagination;
 import eu.koboo.minestom.stomui.api.slots.ViewPattern;
@@ -11,21 +13,28 @@ import eu.koboo.minestom.stomui.core.listener.ViewInventoryCloseListener;
 import eu.koboo.minestom.stomui.core.listener.ViewInventoryPreClickListener;
 import eu.koboo.minestom.stomui.core.listener.ViewPlayerDisconnectListener;
 import eu.koboo.minestom.stomui.core.listener.ViewPlayerPacketNameItemListener;
+import eu.koboo.minestom.stomui.core.pagination.LazyPageComponent;
 import eu.koboo.minestom.stomui.core.pagination.PageComponent;
 import eu.koboo.minestom.stomui.core.pagination.ScrollComponent;
 import eu.koboo.minestom.stomui.core.slots.CoreViewPattern;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
-import net.minestom.server.event.Event;
+import net.minestom.server.event.EventFilter;
 import net.minestom.server.event.EventListener;
+import net.minestom.server.event.EventNode;
 import net.minestom.server.event.inventory.InventoryCloseEvent;
 import net.minestom.server.event.inventory.InventoryPreClickEvent;
 import net.minestom.server.event.player.PlayerDisconnectEvent;
 import net.minestom.server.event.player.PlayerPacketEvent;
+import net.minestom.server.event.trait.PlayerInstanceEvent;
 import net.minestom.server.item.ItemStack;
+import net.minestom.server.tag.Tag;
+import net.minestom.server.timer.Task;
+import net.minestom.server.timer.TaskSchedule;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -38,41 +47,82 @@ import java.util.function.Consumer;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public final class CoreViewRegistry implements ViewRegistry {
 
-    List<EventListener<?>> eventListeners;
+    // Set on every player with an opened view, the event node only passes events of those players.
+    private static final Tag<Boolean> VIEW_OPENED_TAG = Tag.Boolean("stomui:view_opened");
+
+    // Only passes the events of players with an opened view, see VIEW_OPENED_TAG.
+    EventNode<PlayerInstanceEvent> viewEventNode;
+    // Registered on the global event handler, because players can't disconnect from an instance node.
+    EventListener<PlayerDisconnectEvent> disconnectListener;
+    @NonFinal
+    EventNode<? super PlayerInstanceEvent> parentNode;
+    // Only added to the event node of players, which have an opened ANVIL view,
+    // so the packets of all other players never reach it.
+    EventListener<PlayerPacketEvent> anvilInputListener;
     Map<Player, CorePlayerView> playerViewRegistry;
-    Map<UUID, List<CorePlayerView>> playerViewHistoryRegistry;
+    Map<UUID, ViewHistory> playerViewHistoryRegistry;
+    int historySize;
+    Set<CorePlayerView> pendingRebuilds;
+    @NonFinal
+    Task rebuildTask;
 
-    CoreViewRegistry() {
-        this.eventListeners = new ArrayList<>();
+    CoreViewRegistry(int historySize) {
+        if (historySize < 1) {
+            throw new IllegalArgumentException("History size must be at least 1, but was " + historySize);
+        }
+        this.historySize = historySize;
+        this.viewEventNode = EventNode.tag(
+            "stomui-views",
+            EventFilter.from(PlayerInstanceEvent.class, Player.class, PlayerInstanceEvent::getPlayer),
+            VIEW_OPENED_TAG
+        );
+        this.viewEventNode.addListener(InventoryPreClickEvent.class, new ViewInventoryPreClickListener(this));
+        this.viewEventNode.addListener(InventoryCloseEvent.class, new ViewInventoryCloseListener(this));
+        this.disconnectListener = EventListener.of(PlayerDisconnectEvent.class, new ViewPlayerDisconnectListener(this));
+        this.anvilInputListener = EventListener.of(PlayerPacketEvent.class, new ViewPlayerPacketNameItemListener(this));
         this.playerViewRegistry = new ConcurrentHashMap<>();
         this.playerViewHistoryRegistry = new ConcurrentHashMap<>();
+        this.pendingRebuilds = ConcurrentHashMap.newKeySet();
     }
 
     @Override
     public void enable() {
-        registerListener(PlayerPacketEvent.class, new ViewPlayerPacketNameItemListener(this));
-        registerListener(InventoryPreClickEvent.class, new ViewInventoryPreClickListener(this));
-        registerListener(InventoryCloseEvent.class, new ViewInventoryCloseListener(this));
-        registerListener(PlayerDisconnectEvent.class, new ViewPlayerDisconnectListener(this));
+        enable(MinecraftServer.getGlobalEventHandler());
+    }
+
+    @Override
+    public void enable(@NotNull EventNode<? super PlayerInstanceEvent> parentNode) {
+        if (this.parentNode != null) {
+            throw new IllegalStateException("ViewRegistry is already enabled.");
+        }
+        this.parentNode = parentNode;
+        parentNode.addChild(viewEventNode);
+        MinecraftServer.getGlobalEventHandler().addListener(disconnectListener);
+        rebuildTask = MinecraftServer.getSchedulerManager()
+            .buildTask(this::executePendingRebuilds)
+            .repeat(TaskSchedule.nextTick())
+            .schedule();
     }
 
     @Override
     public void disable() {
-        for (Player player : playerViewRegistry.keySet()) {
-            player.closeInventory();
+        for (Map.Entry<Player, CorePlayerView> entry : playerViewRegistry.entrySet()) {
+            // The close listener still needs to receive the event, so the view is closed properly.
+            entry.getKey().closeInventory();
+            removeViewListeners(entry.getValue());
         }
         playerViewRegistry.clear();
         playerViewHistoryRegistry.clear();
-        for (EventListener<?> eventListener : eventListeners) {
-            MinecraftServer.getGlobalEventHandler().removeListener(eventListener);
+        pendingRebuilds.clear();
+        if (rebuildTask != null) {
+            rebuildTask.cancel();
+            rebuildTask = null;
         }
-        eventListeners.clear();
-    }
-
-    private <T extends Event> void registerListener(Class<T> eventClass, Consumer<T> consumer) {
-        EventListener<T> eventListener = EventListener.of(eventClass, consumer);
-        eventListeners.add(eventListener);
-        MinecraftServer.getGlobalEventHandler().addListener(eventListener);
+        if (parentNode != null) {
+            parentNode.removeChild(viewEventNode);
+            parentNode = null;
+        }
+        MinecraftServer.getGlobalEventHandler().removeListener(disconnectListener);
     }
 
     // Only called by PlayerView#closeView()
@@ -83,6 +133,46 @@ public final class CoreViewRegistry implements ViewRegistry {
             return;
         }
         playerViewRegistry.remove(player);
+        pendingRebuilds.remove(playerView);
+        removeViewListeners(playerView);
+    }
+
+    private void addViewListeners(@NotNull PlayerView playerView) {
+        Player player = playerView.getPlayer();
+        player.setTag(VIEW_OPENED_TAG, true);
+        if (playerView.getType() == ViewType.ANVIL) {
+            player.eventNode().addListener(anvilInputListener);
+        }
+    }
+
+    private void removeViewListeners(@NotNull PlayerView playerView) {
+        Player player = playerView.getPlayer();
+        player.removeTag(VIEW_OPENED_TAG);
+        if (playerView.getType() == ViewType.ANVIL) {
+            player.eventNode().removeListener(anvilInputListener);
+        }
+    }
+
+    // Only called by PlayerView#executeRebuild() and PlayerView#invalidate(ViewComponent)
+    @ApiStatus.Internal
+    public void scheduleRebuild(@NotNull CorePlayerView playerView) {
+        pendingRebuilds.add(playerView);
+    }
+
+    private void executePendingRebuilds() {
+        if (pendingRebuilds.isEmpty()) {
+            return;
+        }
+        // Rebuilds requested by the rebuilds below are executed on the next tick,
+        // so every view is rebuilt at most once per tick.
+        List<CorePlayerView> dirtyViews = List.copyOf(pendingRebuilds);
+        dirtyViews.forEach(pendingRebuilds::remove);
+        for (CorePlayerView playerView : dirtyViews) {
+            if (playerViewRegistry.get(playerView.getPlayer()) != playerView) {
+                continue;
+            }
+            playerView.executePendingRebuild();
+        }
     }
 
     @Override
@@ -120,12 +210,15 @@ public final class CoreViewRegistry implements ViewRegistry {
             }
             previousView.closeView();
         }
+        ViewHistory viewHistory = getHistory(player);
         if (!excludeHistory) {
-            List<CorePlayerView> viewHistory = getHistory(player);
-            viewHistory.add(playerView);
+            viewHistory.push(playerView);
+        } else {
+            viewHistory.navigateTo(playerView);
         }
 
         playerViewRegistry.put(player, playerView);
+        addViewListeners(playerView);
         playerView.openView(callComponentOpen);
     }
 
@@ -144,64 +237,53 @@ public final class CoreViewRegistry implements ViewRegistry {
 
     @Override
     public @Nullable PlayerView getLastView(@NotNull Player player) {
-        if (!player.isOnline()) {
-            throw new IllegalArgumentException("Player is not online");
-        }
-        List<CorePlayerView> history = playerViewHistoryRegistry.get(player.getUuid());
-        if (history == null || history.isEmpty()) {
+        ViewHistory history = getCurrentHistory(player);
+        if (history == null) {
             return null;
         }
-        CorePlayerView playerView = getCurrentView(player);
-        if (playerView == null) {
-            return null;
-        }
-        int currentIndex = history.indexOf(playerView);
-        if (currentIndex == -1) {
-            return null;
-        }
-        int index = currentIndex - 1;
-        if (index < 0) {
-            return null;
-        }
-        return history.get(index);
+        return history.peekBack();
     }
 
     @Override
     public @Nullable PlayerView getNextView(@NotNull Player player) {
+        ViewHistory history = getCurrentHistory(player);
+        if (history == null) {
+            return null;
+        }
+        return history.peekForward();
+    }
+
+    // Returns the history of the player, if the current view of the player is the current entry of it.
+    private @Nullable ViewHistory getCurrentHistory(@NotNull Player player) {
         if (!player.isOnline()) {
             throw new IllegalArgumentException("Player is not online");
         }
-        List<CorePlayerView> history = playerViewHistoryRegistry.get(player.getUuid());
-        if (history == null || history.isEmpty()) {
+        ViewHistory history = playerViewHistoryRegistry.get(player.getUuid());
+        if (history == null) {
             return null;
         }
         CorePlayerView playerView = getCurrentView(player);
-        if (playerView == null) {
-            return null;
-        }
-        int currentIndex = history.indexOf(playerView);
-        if (currentIndex == -1) {
+        if (playerView == null || history.current() != playerView) {
             return null;
         }
-        int index = currentIndex + 1;
-        if (index >= history.size()) {
-            return null;
-        }
-        return history.get(index);
+        return history;
     }
 
     @ApiStatus.Internal
     public void resetPlayer(Player player) {
-        playerViewRegistry.remove(player);
-        List<CorePlayerView> history = playerViewHistoryRegistry.remove(player.getUuid());
+        CorePlayerView playerView = playerViewRegistry.remove(player);
+        if (playerView != null) {
+            removeViewListeners(playerView);
+        }
+        ViewHistory history = playerViewHistoryRegistry.remove(player.getUuid());
         if (history != null) {
             history.clear();
         }
     }
 
     @ApiStatus.Internal
-    public @NotNull List<CorePlayerView> getHistory(@NotNull Player player) {
-        return playerViewHistoryRegistry.computeIfAbsent(player.getUuid(), k -> new ArrayList<>());
+    public @NotNull ViewHistory getHistory(@NotNull Player player) {
+        return playerViewHistoryRegistry.computeIfAbsent(player.getUuid(), k -> new ViewHistory(historySize));
     }
 
     @Override
@@ -211,6 +293,16 @@ public final class CoreViewRegistry implements ViewRegistry {
         return new PageComponent<>(itemRenderer, fillerItem, slotList);
     }
 
+    @Override
+    public @NotNull <T> ViewPagination<T> pageable(@NotNull DataSource<T> dataSource,
+                                                   @NotNull ItemRenderer<T> itemRenderer,
+                                                   @Nullable ItemStack fillerItem,
+                                                   @NotNull List<Integer> slotList,
+                                                   int prefetchPages,
+                                                   int cacheSize) {
+        return new LazyPageComponent<>(dataSource, itemRenderer, fillerItem, slotList, prefetchPages, cacheSize);
+    }
+
     @Override
     public @NotNull <T> ViewPagination<T> scrollable(@NotNull ItemRenderer<T> itemRenderer,
                                                      @Nullable ItemStack fillerItem,
@@ -223,15 +315,22 @@ public final class CoreViewRegistry implements ViewRegistry {
         return new CoreViewPattern(pattern);
     }
 
+    /**
+     * Returns all components of the component tree of the given root, which implement the given
+     * callback interface. The {@link List} is precomputed per version of the component tree.
+     *
+     * @param root The root of the component tree.
+     * @param type The class of the callback interface.
+     * @param <T>  The generic type reference of the callback interface.
+     * @return An unmodifiable {@link List} of all components, which implement the given type.
+     */
+    @ApiStatus.Internal
+    public @NotNull <T> List<T> getListeners(@NotNull ViewComponent root, @NotNull Class<T> type) {
+        return root.getTree().getComponentsOfType(type);
+    }
+
     @Override
     public void executeComponents(ViewComponent component, Consumer<ViewComponent> function) {
-        function.accept(component);
-        if (component.getChildren().isEmpty()) {
-            return;
-        }
-        for (int i = 0; i < component.getChildren().size(); i++) {
-            ViewComponent child = component.getChildren().get(i);
-            executeComponents(child, function);
-        }
+        component.getTree().execute(component, function);
     }
 }
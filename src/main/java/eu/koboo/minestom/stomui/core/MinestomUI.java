@@ -4,7 +4,23 @@ import eu.koboo.minestom.stomui.api.ViewRegistry;
 
 public final class MinestomUI {
 
+    /**
+     * The default count of views, which are kept in the history of every player.
+     */
+    public static final int DEFAULT_HISTORY_SIZE = 16;
+
     public static ViewRegistry create() {
-        return new CoreViewRegistry();
+        return create(DEFAULT_HISTORY_SIZE);
+    }
+
+    /**
+     * Creates a new {@link ViewRegistry}, which keeps the given count of views
+     * in the history of every player. Older views are evicted from the history.
+     *
+     * @param historySize The maximum count of views in the history of a player, at least 1.
+     * @return A new instance of {@link ViewRegistry}.
+     */
+    public static ViewRegistry create(int historySize) {
+        return new CoreViewRegistry(historySize);
     }
 }
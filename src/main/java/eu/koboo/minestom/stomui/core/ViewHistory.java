@@ -0,0 +1,137 @@
+package eu.koboo.minestom.stomui.core;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The bounded view history of a single player, imagine it like a browser-history.
+ * <p>
+ * The entries are stored in a ring buffer with a cursor pointing at the current view,
+ * so going back and forward is O(1). If the history is full, the oldest entry gets evicted
+ * and is released for garbage collection. Newly opened views are always appended
+ * to the end of the history, even after going back, so no entry is discarded.
+ */
+@ApiStatus.Internal
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public final class ViewHistory {
+
+    final CorePlayerView[] entries;
+    // The buffer index of the oldest entry.
+    int head;
+    int size;
+    // The logical index (0 = oldest entry) of the current view, or -1 if the history is empty.
+    int cursor;
+
+    ViewHistory(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("History size must be at least 1, but was " + capacity);
+        }
+        this.entries = new CorePlayerView[capacity];
+        this.head = 0;
+        this.size = 0;
+        this.cursor = -1;
+    }
+
+    /**
+     * Appends the given view to the end of the history and makes it the current entry.
+     * The oldest entry is evicted, if the history is full.
+     *
+     * @param playerView The newly opened {@link CorePlayerView}.
+     */
+    void push(@NotNull CorePlayerView playerView) {
+        if (size == entries.length) {
+            entries[head] = null;
+            head = (head + 1) % entries.length;
+            size--;
+        }
+        entries[toBufferIndex(size)] = playerView;
+        size++;
+        cursor = size - 1;
+    }
+
+    /**
+     * @return The current entry of the history, or null if the history is empty.
+     */
+    public @Nullable CorePlayerView current() {
+        return get(cursor);
+    }
+
+    /**
+     * @return The entry before the current entry, or null if there is none.
+     */
+    public @Nullable CorePlayerView peekBack() {
+        return get(cursor - 1);
+    }
+
+    /**
+     * @return The entry after the current entry, or null if there is none.
+     */
+    public @Nullable CorePlayerView peekForward() {
+        return get(cursor + 1);
+    }
+
+    /**
+     * Moves the cursor to the given view, which gets opened from the history.
+     * Going back and forward by one entry is O(1), otherwise the first entry of the view is searched.
+     *
+     * @param playerView The {@link CorePlayerView}, which gets opened from the history.
+     * @return true, if the cursor was moved.
+     */
+    boolean navigateTo(@NotNull CorePlayerView playerView) {
+        if (playerView == peekBack()) {
+            cursor--;
+            return true;
+        }
+        if (playerView == peekForward()) {
+            cursor++;
+            return true;
+        }
+        for (int index = 0; index < size; index++) {
+            if (entries[toBufferIndex(index)] == playerView) {
+                cursor = index;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The count of entries in the history.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The maximum count of entries in the history.
+     */
+    public int capacity() {
+        return entries.length;
+    }
+
+    /**
+     * Removes all entries from the history.
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            entries[toBufferIndex(i)] = null;
+        }
+        head = 0;
+        size = 0;
+        cursor = -1;
+    }
+
+    private @Nullable CorePlayerView get(int index) {
+        if (index < 0 || index >= size) {
+            return null;
+        }
+        return entries[toBufferIndex(index)];
+    }
+
+    private int toBufferIndex(int index) {
+        return (head + index) % entries.length;
+    }
+}
@@ -18,6 +18,7 @@ import net.minestom.server.inventory.PlayerInventory;
 import net.minestom.server.inventory.click.Click;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 @Slf4j
@@ -53,7 +54,7 @@ public final class ViewInventoryPreClickListener implements Consumer<InventoryPr
         Class<? extends @NotNull Click> clickClass = click.getClass();
         log.trace("{} -> Clicked slot {} with type {}", player.getUsername(), clickedSlot, clickClass.getSimpleName());
         if (clickedSlot == CURSOR) {
-            if (!playerView.hasFlags(Flags.CONVERT_CURSOR_TO_MAGIC_SLOT)) {
+            if (!playerView.hasFlag(Flags.CONVERT_CURSOR_TO_MAGIC_SLOT)) {
                 log.trace("{} -> Detected cursor click.", player.getUsername());
                 return;
             }
@@ -69,6 +70,12 @@ public final class ViewInventoryPreClickListener implements Consumer<InventoryPr
             log.trace("{} -> Converted to rawSlot {} in inventory {}", player.getUsername(), rawSlot, inventory.getClass().getSimpleName());
         }
 
+        // The slot is sent by the client, so it could be outside the view type.
+        if (!playerView.isValidRawSlot(rawSlot)) {
+            log.trace("{} -> Ignored click on invalid rawSlot {}", player.getUsername(), rawSlot);
+            return;
+        }
+
         if (playerView.hasCooldown(rawSlot)) {
             cooldownExecution(playerView, rawSlot);
             log.trace("{} -> Cooldown execution {}", player.getUsername(),  rawSlot);
@@ -82,7 +89,7 @@ public final class ViewInventoryPreClickListener implements Consumer<InventoryPr
                 return;
             }
             if(clickClass.equals(Click.LeftDrag.class) || clickClass.equals(Click.RightDrag.class)) {
-                if (playerView.hasFlags(Flags.ALLOW_ITEM_DRAGGING)) {
+                if (playerView.hasFlag(Flags.ALLOW_ITEM_DRAGGING)) {
                     event.setCancelled(false);
                     log.trace("{} -> Allowed item dragging click", player.getUsername());
                     return;
@@ -94,27 +101,28 @@ public final class ViewInventoryPreClickListener implements Consumer<InventoryPr
         }
 
         if (playerView.getType().isBottomSlot(rawSlot)) {
-            if (playerView.hasFlags(Flags.ALLOW_BOTTOM_INTERACTION)) {
+            if (playerView.hasFlag(Flags.ALLOW_BOTTOM_INTERACTION)) {
                 event.setCancelled(false);
                 log.trace("{} -> Allowed bottom click", player.getUsername());
                 return;
             }
-            if (playerView.hasFlags(Flags.CLOSE_ON_BOTTOM_INTERACTION)) {
+            if (playerView.hasFlag(Flags.CLOSE_ON_BOTTOM_INTERACTION)) {
                 player.closeInventory();
                 log.trace("{} -> Closing on bottom click", player.getUsername());
                 return;
             }
         }
 
-        if (playerView.getDisabledClickTypes().contains(clickClass)) {
+        if (playerView.isClickTypeDisabled(clickClass)) {
             event.setCancelled(true);
             log.trace("{} -> Click with disabled click type {}", player.getUsername(), clickClass.getSimpleName());
             return;
         }
 
-        Interaction interaction = playerView.getInteractions().get(rawSlot);
-        if (interaction == null) {
-            interaction = Interactions.cancel();
+        Interaction interaction = playerView.findInteraction(rawSlot);
+        if (interaction == null || interaction == Interactions.CANCEL) {
+            // The click is already cancelled, so the ViewItem and ViewAction aren't needed.
+            return;
         }
         ViewItem viewItem = ViewItem.bySlot(playerView, rawSlot);
 
@@ -123,26 +131,16 @@ public final class ViewInventoryPreClickListener implements Consumer<InventoryPr
     }
 
     private void cooldownExecution(PlayerView playerView, int rawSlot) {
-        registry.executeComponents(
-            playerView.getProvider(),
-            component -> {
-                if (!(component instanceof CooldownInteraction interaction)) {
-                    return;
-                }
-                interaction.onSlotCooldown(playerView, playerView.getPlayer(), rawSlot);
-            }
-        );
+        List<CooldownInteraction> interactions = registry.getListeners(playerView.getProvider(), CooldownInteraction.class);
+        for (int i = 0; i < interactions.size(); i++) {
+            interactions.get(i).onSlotCooldown(playerView, playerView.getPlayer(), rawSlot);
+        }
     }
 
     private void outsideClickExecution(@NotNull PlayerView playerView, int rawSlot, @NotNull Click click) {
-        registry.executeComponents(
-            playerView.getProvider(),
-            component -> {
-                if (!(component instanceof OutsideInteraction interaction)) {
-                    return;
-                }
-                interaction.onOutsideClick(playerView, playerView.getPlayer(), rawSlot, click);
-            }
-        );
+        List<OutsideInteraction> interactions = registry.getListeners(playerView.getProvider(), OutsideInteraction.class);
+        for (int i = 0; i < interactions.size(); i++) {
+            interactions.get(i).onOutsideClick(playerView, playerView.getPlayer(), rawSlot, click);
+        }
     }
 }
@@ -12,6 +12,7 @@ import net.minestom.server.entity.Player;
 import net.minestom.server.event.player.PlayerPacketEvent;
 import net.minestom.server.network.packet.client.play.ClientNameItemPacket;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 @RequiredArgsConstructor
@@ -40,14 +41,9 @@ public final class ViewPlayerPacketNameItemListener implements Consumer<PlayerPa
     }
 
     private void anvilInputExecution(PlayerView playerView, String input) {
-        registry.executeComponents(
-            playerView.getProvider(),
-            component -> {
-                if (!(component instanceof AnvilInputInteraction interaction)) {
-                    return;
-                }
-                interaction.onAnvilInput(playerView, playerView.getPlayer(), input);
-            }
-        );
+        List<AnvilInputInteraction> interactions = registry.getListeners(playerView.getProvider(), AnvilInputInteraction.class);
+        for (int i = 0; i < interactions.size(); i++) {
+            interactions.get(i).onAnvilInput(playerView, playerView.getPlayer(), input);
+        }
     }
 }
@@ -1,11 +1,10 @@
 package eu.koboo.minestom.stomui.core.pagination;
 
 import eu.koboo.minestom.stomui.api.PlayerView;
-import eu.koboo.minestom.stomui.api.item.PrebuiltItem;
-import eu.koboo.minestom.stomui.api.item.ViewItem;
 import eu.koboo.minestom.stomui.api.pagination.ItemFilter;
 import eu.koboo.minestom.stomui.api.pagination.ItemRenderer;
 import eu.koboo.minestom.stomui.api.pagination.ViewPagination;
+import eu.koboo.minestom.stomui.api.state.IntStateKey;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
@@ -23,14 +22,27 @@ import java.util.*;
 public abstract sealed class AbstractPaginationComponent<T> extends ViewPagination<T> permits PageComponent, ScrollComponent {
 
     final ItemStack fillerItem;
-
-    final List<T> itemList;
-    final List<List<T>> pagedItemList;
+    ItemStack placeholderItem;
+
+    // All items in insertion order.
+    final IndexedItemTree<T> itemTree;
+    // All included items, sorted by the itemSorter.
+    IndexedItemTree<T> filteredItemTree;
+    // True, if the sort key of an item changed in place, see ViewPagination#updateItems.
+    // The filtered tree is rebuilt on the next access, because the items can't be located in it anymore.
+    boolean filteredItemsDirty;
+    // The sequence numbers of every item instance, needed to locate them in the trees.
+    // By identity, so items with a mutable hashCode can still be removed.
+    final Map<T, List<Long>> itemSequences;
+    long nextSequence;
 
     ItemRenderer<T> itemRenderer;
     Comparator<T> itemSorter;
     ItemFilter<T> itemFilter;
-    int currentPage;
+    // Only used by the deprecated methods, which don't know the view.
+    int lastRenderedPage;
+    // Incremented on every render of a view, to drop outdated asynchronous renders.
+    final IntStateKey renderRevisionKey;
 
     public AbstractPaginationComponent(@NotNull ItemRenderer<T> itemRenderer,
                                        @Nullable ItemStack fillerItem) {
@@ -38,104 +50,145 @@ public abstract sealed class AbstractPaginationComponent<T> extends ViewPaginati
             fillerItem = ItemStack.of(Material.AIR);
         }
         this.fillerItem = fillerItem;
-        this.itemList = new ArrayList<>();
-        this.pagedItemList = new ArrayList<>();
+        this.itemTree = new IndexedItemTree<>(null);
+        this.filteredItemTree = new IndexedItemTree<>(null);
+        this.filteredItemsDirty = false;
+        this.itemSequences = new IdentityHashMap<>();
+        this.nextSequence = 0;
 
         this.itemRenderer = itemRenderer;
-        this.currentPage = 1;
+        this.lastRenderedPage = 1;
+        this.renderRevisionKey = IntStateKey.of("pagination-render-revision-" + getId());
     }
 
     @Override
     public void setItemRenderer(@NotNull ItemRenderer<T> itemRenderer) {
         this.itemRenderer = itemRenderer;
-        updatePagedItems();
     }
 
     @Override
     public void setItemSorter(@Nullable Comparator<T> itemSorter) {
         this.itemSorter = itemSorter;
-        updatePagedItems();
+        rebuildFilteredItems();
     }
 
     @Override
     public void setItemFilter(ItemFilter<T> itemFilter) {
         this.itemFilter = itemFilter;
-        updatePagedItems();
+        rebuildFilteredItems();
+    }
+
+    @Override
+    public void refilterItems() {
+        rebuildFilteredItems();
+    }
+
+    @Override
+    public void updateItems(@NotNull Collection<T> itemCollection) {
+        if (itemCollection.isEmpty()) {
+            return;
+        }
+        filteredItemsDirty = true;
     }
 
     @Override
     public void addItems(@NotNull Collection<T> itemCollection) {
-        itemList.addAll(itemCollection);
-        updatePagedItems();
+        for (T item : itemCollection) {
+            long sequence = nextSequence++;
+            itemTree.insert(item, sequence);
+            itemSequences.computeIfAbsent(item, key -> new ArrayList<>(1)).add(sequence);
+            // A dirty tree is rebuilt with all items anyway.
+            if (!filteredItemsDirty && isIncluded(item)) {
+                filteredItemTree.insert(item, sequence);
+            }
+        }
     }
 
     @Override
     public void removeItems(@NotNull Collection<T> itemCollection) {
-        itemList.removeAll(itemCollection);
-        updatePagedItems();
+        for (T item : itemCollection) {
+            List<Long> sequences = itemSequences.remove(item);
+            if (sequences != null) {
+                removeEntries(item, sequences);
+                continue;
+            }
+            // Not an added instance, so all equal items are removed, like List#removeAll.
+            List<T> equalItems = new ArrayList<>();
+            for (T addedItem : itemSequences.keySet()) {
+                if (addedItem.equals(item)) {
+                    equalItems.add(addedItem);
+                }
+            }
+            for (T equalItem : equalItems) {
+                removeEntries(equalItem, itemSequences.remove(equalItem));
+            }
+        }
+    }
+
+    private void removeEntries(@NotNull T item, @NotNull List<Long> sequences) {
+        for (Long sequence : sequences) {
+            itemTree.remove(item, sequence);
+            if (filteredItemsDirty) {
+                continue;
+            }
+            // The item is missing, if it's excluded, or if its sort key changed without updateItems.
+            // The latter leaves the tree out of order, so it's rebuilt to drop the stale entry.
+            if (!filteredItemTree.remove(item, sequence) && isIncluded(item)) {
+                filteredItemsDirty = true;
+            }
+        }
     }
 
     @Override
     public void clearItems() {
-        itemList.clear();
-        updatePagedItems();
+        itemTree.clear();
+        filteredItemTree.clear();
+        filteredItemsDirty = false;
+        itemSequences.clear();
     }
 
     @Override
     public void setItems(Collection<T> items) {
-        itemList.clear();
-        itemList.addAll(items);
-        updatePagedItems();
+        itemTree.clear();
+        filteredItemTree.clear();
+        filteredItemsDirty = false;
+        itemSequences.clear();
+        addItems(items);
     }
 
     @ApiStatus.Internal
-    private void updatePagedItems() {
-        int maxItemsPerPage = getMaximumItemsPerPage();
-        if (maxItemsPerPage < 1) {
-            throw new IllegalArgumentException("itemsPerPage must be set and positive. " +
-                "(itemsPerPage=" + maxItemsPerPage + ")");
-        }
+    private boolean isIncluded(@NotNull T item) {
+        return itemFilter == null || itemFilter.include(item);
+    }
 
-        List<T> resultItemList = getAllFilteredItems();
-        int totalItemAmount = resultItemList.size();
-        pagedItemList.clear();
-        // No items -> We don't need to refill the backed list.
-        if (totalItemAmount > 0) {
-            for (int pageIndex = 0; pageIndex < totalItemAmount; pageIndex += maxItemsPerPage) {
-                int end = Math.min(pageIndex + maxItemsPerPage, totalItemAmount);
-                List<T> itemSubList = resultItemList.subList(pageIndex, end);
-                List<T> page = new ArrayList<>(itemSubList);
-                pagedItemList.add(page);
+    @ApiStatus.Internal
+    private void rebuildFilteredItems() {
+        IndexedItemTree<T> newFilteredItemTree = new IndexedItemTree<>(itemSorter);
+        itemTree.forEachEntry((item, sequence) -> {
+            if (!isIncluded(item)) {
+                return;
             }
+            newFilteredItemTree.insert(item, sequence);
+        });
+        filteredItemTree = newFilteredItemTree;
+        filteredItemsDirty = false;
+    }
+
+    private @NotNull IndexedItemTree<T> getFilteredItemTree() {
+        if (filteredItemsDirty) {
+            rebuildFilteredItems();
         }
-        // Pagination is already at the last page.
-        // Reassign the "new" last page.
-        if (currentPage > getTotalPages()) {
-            currentPage = getTotalPages();
-        }
-        int totalFilteredItems = resultItemList.size();
-        // No items, so we navigate to the first page.
-        if (currentPage == 0 && totalFilteredItems > 0) {
-            currentPage = 1;
-        }
+        return filteredItemTree;
     }
 
     @Override
     public @NotNull List<T> getAllItems() {
-        return Collections.unmodifiableList(itemList);
+        return Collections.unmodifiableList(itemTree);
     }
 
     @Override
     public @NotNull List<T> getAllFilteredItems() {
-        List<T> resultItemList = new ArrayList<>(itemList);
-        if (itemFilter != null) {
-            resultItemList.removeIf(item -> !itemFilter.include(item));
-        }
-
-        if (itemSorter != null) {
-            resultItemList.sort(itemSorter);
-        }
-        return Collections.unmodifiableList(resultItemList);
+        return Collections.unmodifiableList(getFilteredItemTree());
     }
 
     @Override
@@ -144,11 +197,17 @@ public abstract sealed class AbstractPaginationComponent<T> extends ViewPaginati
             throw new IllegalArgumentException("pageIndex must be set and positive. " +
                 "(pageIndex=" + pageIndex + ")");
         }
-        if (pageIndex >= pagedItemList.size()) {
+        int totalPages = getTotalPages();
+        if (pageIndex >= totalPages) {
             throw new IllegalArgumentException("pageIndex must be less than getTotalPages() " +
-                "(pageIndex=" + pageIndex + " >= totalPages=" + getTotalPages() + ")");
+                "(pageIndex=" + pageIndex + " >= totalPages=" + totalPages + ")");
         }
-        return Collections.unmodifiableList(pagedItemList.get(pageIndex));
+        // Pages are just index ranges of the sorted tree.
+        int maxItemsPerPage = getMaximumItemsPerPage();
+        int start = pageIndex * maxItemsPerPage;
+        IndexedItemTree<T> filteredItems = getFilteredItemTree();
+        int end = Math.min(start + maxItemsPerPage, filteredItems.size());
+        return List.copyOf(filteredItems.subList(start, end));
     }
 
     @Override
@@ -157,69 +216,89 @@ public abstract sealed class AbstractPaginationComponent<T> extends ViewPaginati
     }
 
     @Override
+    @Deprecated
     public int getCurrentPage() {
-        return currentPage;
+        return Math.min(lastRenderedPage, getTotalPages());
     }
 
     @Override
+    public int getCurrentPage(@NotNull PlayerView playerView) {
+        // The items could have been changed since the last navigation,
+        // so the stored page is limited to the last page.
+        return Math.min(playerView.getState().get(getCurrentPageKey()), getTotalPages());
+    }
+
+    @Override
+    @Deprecated
     public int getNextPage() {
-        if(!hasNextPage()) {
+        if (!hasNextPage()) {
             return -1;
         }
-        return currentPage + 1;
+        return getCurrentPage() + 1;
     }
 
     @Override
+    @Deprecated
     public int getPreviousPage() {
-        if(!hasPreviousPage()) {
+        if (!hasPreviousPage()) {
             return -1;
         }
-        return currentPage - 1;
+        return getCurrentPage() - 1;
     }
 
     @Override
     public int getTotalPages() {
-        return pagedItemList.size();
+        int maxItemsPerPage = getMaximumItemsPerPage();
+        if (maxItemsPerPage < 1) {
+            throw new IllegalArgumentException("itemsPerPage must be set and positive. " +
+                "(itemsPerPage=" + maxItemsPerPage + ")");
+        }
+        int totalFilteredItems = getFilteredItemTree().size();
+        return (totalFilteredItems + maxItemsPerPage - 1) / maxItemsPerPage;
     }
 
     @Override
     public int getTotalItems() {
-        return itemList.size();
+        return itemTree.size();
     }
 
     @Override
     public int getTotalFilteredItems() {
-        return getAllFilteredItems().size();
+        return getFilteredItemTree().size();
     }
 
     @Override
+    @Deprecated
     public boolean hasNextPage() {
-        return getTotalPages() > currentPage;
+        return getTotalPages() > getCurrentPage();
     }
 
     @Override
     public void toNextPage(@NotNull PlayerView playerView) {
-        toPage(playerView, currentPage + 1);
+        toPage(playerView, getCurrentPage(playerView) + 1);
     }
 
     @Override
+    @Deprecated
     public boolean hasPreviousPage() {
-        return currentPage > 1;
+        return getCurrentPage() > 1;
     }
 
     @Override
     public void toPreviousPage(@NotNull PlayerView playerView) {
-        toPage(playerView, currentPage - 1);
+        toPage(playerView, getCurrentPage(playerView) - 1);
     }
 
     @Override
+    @Deprecated
     public boolean isFirstPage() {
-        return currentPage == 1;
+        return getCurrentPage() == 1;
     }
 
     @Override
+    @Deprecated
     public boolean isLastPage() {
-        return currentPage == getTotalPages();
+        return getCurrentPage() == getTotalPages();
     }
 
     @Override
@@ -235,14 +314,15 @@ public abstract sealed class AbstractPaginationComponent<T> extends ViewPaginati
                 "(newPage=" + newPage + " > totalPages=" + totalPages + ")");
         }
         log.trace("{} -> Navigating pagination to page {}.", playerView.getPlayer().getUsername(), newPage);
-        currentPage = newPage;
-        updatePagedItems();
-        playerView.executeRebuild();
+        setCurrentPage(playerView, newPage);
+        invalidatePage(playerView);
     }
 
     @Override
     public void refreshPage(@NotNull PlayerView playerView) {
-        toPage(playerView, getCurrentPage());
+        // The current page is limited to the last page on rendering,
+        // so the refresh also works if all items of the page were removed.
+        invalidatePage(playerView);
     }
 
     @Override
@@ -251,41 +331,44 @@ public abstract sealed class AbstractPaginationComponent<T> extends ViewPaginati
     }
 
     @Override
-    public void onOpen(@NotNull PlayerView playerView, @NotNull Player player) {
-        updatePagedItems();
-        renderCurrentPage(playerView, getMaximumItemsPerPage());
+    public void setPlaceholderItem(@Nullable ItemStack placeholderItem) {
+        this.placeholderItem = placeholderItem;
     }
 
+    @Override
+    public @NotNull ItemStack getPlaceholderItem() {
+        if (placeholderItem == null) {
+            return fillerItem;
+        }
+        return placeholderItem;
+    }
+
+    // Nothing is rendered on open, because the first rebuild is executed before the view is opened.
     @Override
     public void onRebuild(@NotNull PlayerView playerView, @NotNull Player player) {
-        updatePagedItems();
         renderCurrentPage(playerView, getMaximumItemsPerPage());
     }
 
     @ApiStatus.Internal
-    abstract void renderCurrentPage(@NotNull PlayerView playerView, int itemsPerPage);
+    void renderCurrentPage(@NotNull PlayerView playerView, int itemsPerPage) {
+        int currentPage = getCurrentPage(playerView);
+        lastRenderedPage = Math.max(1, currentPage);
+        renderPage(playerView, itemsPerPage, currentPage);
+    }
+
+    @ApiStatus.Internal
+    abstract void renderPage(@NotNull PlayerView playerView, int itemsPerPage, int currentPage);
 
     @ApiStatus.Internal
-    void updatePageBySlots(PlayerView playerView,
-                           int itemsPerPage,
-                           List<T> currentPageItemList,
-                           List<Integer> slotList) {
-        for (int pageItemIndex = 0; pageItemIndex < itemsPerPage; pageItemIndex++) {
-            // Get the current slot of the page
-            int itemSlot = slotList.get(pageItemIndex);
-            ViewItem viewItem = ViewItem.bySlot(playerView, itemSlot);
-
-            // Check if there is an ItemStack present in our itemLoader
-            // for the currently iterated slot?
-            if ((currentPageItemList.size() - 1) >= pageItemIndex) {
-                T currentItem = currentPageItemList.get(pageItemIndex);
-                PrebuiltItem prebuiltItem = itemRenderer.render(currentItem);
-                viewItem.applyPrebuilt(prebuiltItem);
-                continue;
-            }
+    void renderPageItems(@NotNull PlayerView playerView,
+                         @NotNull List<T> pageItemList,
+                         @NotNull List<Integer> slotList) {
+        PageSlotRenderer.render(playerView, getId(), itemRenderer, renderRevisionKey,
+            pageItemList, slotList, getFillerItem(), getPlaceholderItem());
+    }
 
-            // No item, fill up.
-            viewItem.item(getFillerItem());
-        }
+    @ApiStatus.Internal
+    void cancelPendingRender(@NotNull PlayerView playerView) {
+        PageSlotRenderer.cancel(playerView, renderRevisionKey);
     }
 }
@@ -0,0 +1,240 @@
+package eu.koboo.minestom.stomui.core.pagination;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.Comparator;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * An order-statistic tree (AVL tree with subtree sizes), which keeps the items
+ * sorted by the given {@link Comparator} and supports insertion, removal
+ * and access by index in O(log n).
+ * <p>
+ * Every item is stored with a unique sequence number, which is used to order items,
+ * which are equal by the {@link Comparator}. That keeps equal items in insertion order.
+ * If no {@link Comparator} is given, the items are only ordered by their sequence number.
+ * <p>
+ * The tree can be used as read-only {@link java.util.List} view.
+ *
+ * @param <E> The type of the items.
+ */
+@ApiStatus.Internal
+@FieldDefaults(level = AccessLevel.PRIVATE)
+final class IndexedItemTree<E> extends AbstractList<E> {
+
+    final Comparator<E> comparator;
+    Node<E> root;
+    boolean removed;
+
+    IndexedItemTree(@Nullable Comparator<E> comparator) {
+        this.comparator = comparator;
+        this.root = null;
+    }
+
+    /**
+     * Inserts the given item with its sequence number in O(log n).
+     *
+     * @param item     The item to insert.
+     * @param sequence The unique sequence number of the item.
+     */
+    void insert(@NotNull E item, long sequence) {
+        root = insert(root, new Node<>(item, sequence));
+        modCount++;
+    }
+
+    /**
+     * Removes the given item with its sequence number in O(log n).
+     *
+     * @param item     The item to remove.
+     * @param sequence The sequence number the item was inserted with.
+     * @return true, if the item was found and removed.
+     */
+    boolean remove(@NotNull E item, long sequence) {
+        removed = false;
+        root = remove(root, item, sequence);
+        if (removed) {
+            modCount++;
+        }
+        return removed;
+    }
+
+    /**
+     * Executes the given consumer on every item and its sequence number, in order.
+     *
+     * @param consumer The consumer to execute.
+     */
+    void forEachEntry(@NotNull ObjLongConsumer<E> consumer) {
+        forEachEntry(root, consumer);
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+        }
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+                continue;
+            }
+            if (index == leftSize) {
+                return node.item;
+            }
+            index -= leftSize + 1;
+            node = node.right;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        modCount++;
+    }
+
+    private int compare(E item, long sequence, Node<E> node) {
+        if (comparator != null) {
+            int result = comparator.compare(item, node.item);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Long.compare(sequence, node.sequence);
+    }
+
+    private Node<E> insert(Node<E> node, Node<E> newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (compare(newNode.item, newNode.sequence, node) < 0) {
+            node.left = insert(node.left, newNode);
+        } else {
+            node.right = insert(node.right, newNode);
+        }
+        return balance(node);
+    }
+
+    private Node<E> remove(Node<E> node, E item, long sequence) {
+        if (node == null) {
+            return null;
+        }
+        int result = compare(item, sequence, node);
+        if (result < 0) {
+            node.left = remove(node.left, item, sequence);
+            return balance(node);
+        }
+        if (result > 0) {
+            node.right = remove(node.right, item, sequence);
+            return balance(node);
+        }
+        removed = true;
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        successor.right = removeFirst(node.right);
+        successor.left = node.left;
+        return balance(successor);
+    }
+
+    private Node<E> removeFirst(Node<E> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeFirst(node.left);
+        return balance(node);
+    }
+
+    private void forEachEntry(Node<E> node, ObjLongConsumer<E> consumer) {
+        if (node == null) {
+            return;
+        }
+        forEachEntry(node.left, consumer);
+        consumer.accept(node.item, node.sequence);
+        forEachEntry(node.right, consumer);
+    }
+
+    private Node<E> balance(Node<E> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<E> rotateLeft(Node<E> node) {
+        Node<E> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<E> rotateRight(Node<E> node) {
+        Node<E> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(Node<E> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private static final class Node<E> {
+
+        final E item;
+        final long sequence;
+        Node<E> left;
+        Node<E> right;
+        int height;
+        int size;
+
+        Node(E item, long sequence) {
+            this.item = item;
+            this.sequence = sequence;
+            this.height = 1;
+            this.size = 1;
+        }
+    }
+}
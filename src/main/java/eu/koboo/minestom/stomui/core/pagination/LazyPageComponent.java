@@ -0,0 +1,564 @@
+package eu.koboo.minestom.stomui.core.pagination;
+
+import eu.koboo.minestom.stomui.api.PlayerView;
+import eu.koboo.minestom.stomui.api.pagination.DataSource;
+import eu.koboo.minestom.stomui.api.pagination.ItemFilter;
+import eu.koboo.minestom.stomui.api.pagination.ItemRenderer;
+import eu.koboo.minestom.stomui.api.pagination.ViewPagination;
+import eu.koboo.minestom.stomui.api.state.IntStateKey;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.Material;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link ViewPagination} using pages, which fetches its items from a {@link DataSource}
+ * instead of holding all items in memory.
+ * <p>
+ * Only the displayed page and the configured number of neighbour pages are fetched.
+ * The fetched pages are kept in a least-recently-used cache. If a fetch completes,
+ * the pagination gets rebuilt on all {@link PlayerView}s, which display it.
+ * Until then, the filler item is displayed.
+ * <p>
+ * If a fetch fails, it's not retried on every rebuild. Instead, the next fetch is delayed
+ * with an exponential backoff, until {@link LazyPageComponent#clearItems()} drops the failures.
+ * <p>
+ * The items are owned by the {@link DataSource}, so all methods to modify the items
+ * drop the fetched pages and the fetched count instead, like {@link LazyPageComponent#clearItems()}.
+ * The changed {@link DataSource} is fetched again after {@link ViewPagination#refreshPage(PlayerView)}.
+ * Filtering and sorting of all items is part of the {@link DataSource}, the itemSorter and itemFilter
+ * of this pagination are only applied to the items of each fetched page.
+ */
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ApiStatus.Internal
+public final class LazyPageComponent<T> extends ViewPagination<T> {
+
+    private static final long INITIAL_RETRY_DELAY_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAXIMUM_RETRY_DELAY_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    final DataSource<T> dataSource;
+    final ItemStack fillerItem;
+    ItemStack placeholderItem;
+    final List<Integer> slotList;
+    final int prefetchPages;
+
+    // The fetched pages by their index, in access-order.
+    final Map<Integer, List<T>> pageCache;
+    final Set<Integer> pendingPages;
+    // The failed fetches by the page index, to delay the next fetch of the page.
+    final Map<Integer, FetchFailure> failedPages;
+    final Set<PlayerView> viewers;
+
+    ItemRenderer<T> itemRenderer;
+    // Only applied to the items of each fetched page.
+    Comparator<T> itemSorter;
+    ItemFilter<T> itemFilter;
+    int totalItems;
+    boolean countPending;
+    // Null, if the last count didn't fail.
+    FetchFailure countFailure;
+    // Incremented on clearItems, to drop fetches of outdated data.
+    long generation;
+    // Only used by the deprecated methods, which don't know the view.
+    int lastRenderedPage;
+    // Incremented on every render of a view, to drop outdated asynchronous renders.
+    final IntStateKey renderRevisionKey;
+
+    public LazyPageComponent(@NotNull DataSource<T> dataSource,
+                             @NotNull ItemRenderer<T> itemRenderer,
+                             @Nullable ItemStack fillerItem,
+                             @NotNull List<Integer> slotList,
+                             int prefetchPages,
+                             int cacheSize) {
+        if (slotList.isEmpty()) {
+            throw new IllegalArgumentException("slotList is empty!");
+        }
+        if (prefetchPages < 0) {
+            throw new IllegalArgumentException("prefetchPages can't be negative. " +
+                "(prefetchPages=" + prefetchPages + ")");
+        }
+        // The current page and the prefetched pages in both directions need to fit into the cache.
+        int minimumCacheSize = 1 + prefetchPages * 2;
+        if (cacheSize < minimumCacheSize) {
+            throw new IllegalArgumentException("cacheSize must be at least " + minimumCacheSize + ". " +
+                "(cacheSize=" + cacheSize + ", prefetchPages=" + prefetchPages + ")");
+        }
+        if (fillerItem == null) {
+            fillerItem = ItemStack.of(Material.AIR);
+        }
+        this.dataSource = dataSource;
+        this.itemRenderer = itemRenderer;
+        this.fillerItem = fillerItem;
+        this.slotList = List.copyOf(slotList);
+        this.prefetchPages = prefetchPages;
+        this.pageCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<T>> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.pendingPages = new HashSet<>();
+        this.failedPages = new HashMap<>();
+        this.viewers = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.totalItems = -1;
+        this.countPending = false;
+        this.countFailure = null;
+        this.generation = 0;
+        this.lastRenderedPage = 1;
+        this.renderRevisionKey = IntStateKey.of("lazy-pagination-render-revision-" + getId());
+    }
+
+    @Override
+    public void setItemRenderer(@NotNull ItemRenderer<T> itemRenderer) {
+        this.itemRenderer = itemRenderer;
+    }
+
+    /**
+     * Sorts the items of each fetched page. The order of all items is defined by the {@link DataSource}.
+     */
+    @Override
+    public synchronized void setItemSorter(@Nullable Comparator<T> itemSorter) {
+        this.itemSorter = itemSorter;
+    }
+
+    /**
+     * Filters the items of each fetched page, so a page can display fewer items than its slots.
+     * The count of all items is defined by the {@link DataSource}.
+     */
+    @Override
+    public synchronized void setItemFilter(@Nullable ItemFilter<T> itemFilter) {
+        this.itemFilter = itemFilter;
+    }
+
+    /**
+     * The given items are expected to be added to the {@link DataSource} already,
+     * so the fetched pages and the fetched count are dropped, see {@link LazyPageComponent#clearItems()}.
+     */
+    @Override
+    public void addItems(@NotNull Collection<T> items) {
+        clearItems();
+    }
+
+    /**
+     * The given items are expected to be removed from the {@link DataSource} already,
+     * so the fetched pages and the fetched count are dropped, see {@link LazyPageComponent#clearItems()}.
+     */
+    @Override
+    public void removeItems(@NotNull Collection<T> items) {
+        clearItems();
+    }
+
+    /**
+     * Drops all fetched pages and the fetched count, so they are fetched
+     * again from the {@link DataSource} on the next rebuild.
+     * Fetches, which are still running, are ignored on completion.
+     */
+    @Override
+    public synchronized void clearItems() {
+        generation++;
+        pageCache.clear();
+        pendingPages.clear();
+        failedPages.clear();
+        totalItems = -1;
+        countPending = false;
+        countFailure = null;
+    }
+
+    /**
+     * The given items are expected to be set in the {@link DataSource} already,
+     * so the fetched pages and the fetched count are dropped, see {@link LazyPageComponent#clearItems()}.
+     */
+    @Override
+    public void setItems(Collection<T> items) {
+        clearItems();
+    }
+
+    /**
+     * A lazy pagination doesn't hold all items, so only the items of the fetched pages
+     * are returned, ordered by their page.
+     */
+    @Override
+    public synchronized @NotNull List<T> getAllItems() {
+        List<T> fetchedItemList = new ArrayList<>();
+        for (List<T> page : getFetchedPagesInOrder()) {
+            fetchedItemList.addAll(page);
+        }
+        return Collections.unmodifiableList(fetchedItemList);
+    }
+
+    /**
+     * Like {@link LazyPageComponent#getAllItems()}, but with the itemFilter and itemSorter
+     * applied to the items of each fetched page.
+     */
+    @Override
+    public synchronized @NotNull List<T> getAllFilteredItems() {
+        List<T> fetchedItemList = new ArrayList<>();
+        for (List<T> page : getFetchedPagesInOrder()) {
+            fetchedItemList.addAll(applyPageFilter(page));
+        }
+        return Collections.unmodifiableList(fetchedItemList);
+    }
+
+    @ApiStatus.Internal
+    private synchronized @NotNull Collection<List<T>> getFetchedPagesInOrder() {
+        // Iterating the entries doesn't change the access-order of the cache, unlike get.
+        return new TreeMap<>(pageCache).values();
+    }
+
+    /**
+     * Returns the page, if it was already fetched.
+     * Otherwise, an empty {@link List} is returned and the page gets fetched.
+     */
+    @Override
+    public synchronized @NotNull List<T> getPageByIndex(int pageIndex) {
+        if (pageIndex < 0) {
+            throw new IllegalArgumentException("pageIndex must be set and positive. " +
+                "(pageIndex=" + pageIndex + ")");
+        }
+        List<T> page = pageCache.get(pageIndex);
+        if (page != null) {
+            return applyPageFilter(page);
+        }
+        fetchPage(pageIndex);
+        // The fetch could have been completed immediately.
+        return applyPageFilter(pageCache.getOrDefault(pageIndex, List.of()));
+    }
+
+    @ApiStatus.Internal
+    private synchronized @NotNull List<T> applyPageFilter(@NotNull List<T> page) {
+        if (page.isEmpty() || (itemFilter == null && itemSorter == null)) {
+            return page;
+        }
+        List<T> filteredPage = new ArrayList<>(page.size());
+        for (T item : page) {
+            if (itemFilter == null || itemFilter.include(item)) {
+                filteredPage.add(item);
+            }
+        }
+        if (itemSorter != null) {
+            filteredPage.sort(itemSorter);
+        }
+        return Collections.unmodifiableList(filteredPage);
+    }
+
+    @Override
+    public @NotNull List<T> getPageByNumber(int pageNumber) {
+        return getPageByIndex(pageNumber - 1);
+    }
+
+    @Override
+    @Deprecated
+    public int getCurrentPage() {
+        return lastRenderedPage;
+    }
+
+    @Override
+    public int getCurrentPage(@NotNull PlayerView playerView) {
+        // The data source could have been shrunk since the last navigation,
+        // so the stored page is limited to the last page.
+        return Math.min(playerView.getState().get(getCurrentPageKey()), getTotalPages());
+    }
+
+    @Override
+    @Deprecated
+    public int getNextPage() {
+        if (!hasNextPage()) {
+            return -1;
+        }
+        return getCurrentPage() + 1;
+    }
+
+    @Override
+    @Deprecated
+    public int getPreviousPage() {
+        if (!hasPreviousPage()) {
+            return -1;
+        }
+        return getCurrentPage() - 1;
+    }
+
+    @Override
+    public int getTotalPages() {
+        int maxItemsPerPage = getMaximumItemsPerPage();
+        int totalItems = getTotalItems();
+        return (totalItems + maxItemsPerPage - 1) / maxItemsPerPage;
+    }
+
+    /**
+     * Returns the fetched count of the {@link DataSource}.
+     * If it wasn't fetched yet, 0 is returned and the count gets fetched.
+     */
+    @Override
+    public synchronized int getTotalItems() {
+        if (totalItems < 0) {
+            fetchCount();
+        }
+        // The fetch could have been completed immediately.
+        return Math.max(0, totalItems);
+    }
+
+    @Override
+    public int getTotalFilteredItems() {
+        return getTotalItems();
+    }
+
+    @Override
+    @Deprecated
+    public boolean hasNextPage() {
+        return getTotalPages() > getCurrentPage();
+    }
+
+    @Override
+    public void toNextPage(@NotNull PlayerView playerView) {
+        toPage(playerView, getCurrentPage(playerView) + 1);
+    }
+
+    @Override
+    @Deprecated
+    public boolean hasPreviousPage() {
+        return getCurrentPage() > 1;
+    }
+
+    @Override
+    public void toPreviousPage(@NotNull PlayerView playerView) {
+        toPage(playerView, getCurrentPage(playerView) - 1);
+    }
+
+    @Override
+    @Deprecated
+    public boolean isFirstPage() {
+        return getCurrentPage() == 1;
+    }
+
+    @Override
+    @Deprecated
+    public boolean isLastPage() {
+        return getCurrentPage() == getTotalPages();
+    }
+
+    @Override
+    public void toPage(@NotNull PlayerView playerView, int newPage) {
+        // Starts at 1, can't be zero or less.
+        if (newPage < 1) {
+            throw new IllegalArgumentException("newPage must be set and positive. " +
+                "(newPage=" + newPage + ")");
+        }
+        int totalPages = getTotalPages();
+        if (newPage > totalPages) {
+            throw new IllegalArgumentException("newPage must be less than getTotalPages() " +
+                "(newPage=" + newPage + " > totalPages=" + totalPages + ")");
+        }
+        log.trace("{} -> Navigating lazy pagination to page {}.", playerView.getPlayer().getUsername(), newPage);
+        setCurrentPage(playerView, newPage);
+        invalidatePage(playerView);
+    }
+
+    @Override
+    public void refreshPage(@NotNull PlayerView playerView) {
+        invalidatePage(playerView);
+    }
+
+    @Override
+    public @NotNull ItemStack getFillerItem() {
+        return fillerItem;
+    }
+
+    @Override
+    public void setPlaceholderItem(@Nullable ItemStack placeholderItem) {
+        this.placeholderItem = placeholderItem;
+    }
+
+    @Override
+    public @NotNull ItemStack getPlaceholderItem() {
+        if (placeholderItem == null) {
+            return fillerItem;
+        }
+        return placeholderItem;
+    }
+
+    @Override
+    public int getMaximumItemsPerPage() {
+        return slotList.size();
+    }
+
+    @Override
+    public @NotNull Collection<Integer> getOwnedSlots(@NotNull PlayerView view) {
+        return slotList;
+    }
+
+    @Override
+    public void onOpen(@NotNull PlayerView playerView, @NotNull Player player) {
+        synchronized (this) {
+            viewers.add(playerView);
+        }
+        // The page is rendered by the first rebuild, which is executed before the view is opened.
+    }
+
+    @Override
+    public void onRebuild(@NotNull PlayerView playerView, @NotNull Player player) {
+        synchronized (this) {
+            // Also reopened views need to be notified about completed fetches.
+            viewers.add(playerView);
+        }
+        renderCurrentPage(playerView);
+    }
+
+    @Override
+    public synchronized void onClose(@NotNull PlayerView playerView, @NotNull Player player) {
+        viewers.remove(playerView);
+    }
+
+    @ApiStatus.Internal
+    private void renderCurrentPage(@NotNull PlayerView playerView) {
+        int totalPages = getTotalPages();
+        // The count isn't fetched yet or the data source shrunk.
+        int currentPage = Math.max(1, getCurrentPage(playerView));
+        lastRenderedPage = currentPage;
+        List<T> currentPageItemList = List.of();
+        if (totalPages > 0) {
+            currentPageItemList = getPageByNumber(currentPage);
+            prefetchNeighbourPages(currentPage, totalPages);
+        }
+        // If the page isn't fetched yet, the list is empty and the filler is displayed.
+        PageSlotRenderer.render(playerView, getId(), itemRenderer, renderRevisionKey,
+            currentPageItemList, slotList, getFillerItem(), getPlaceholderItem());
+    }
+
+    @ApiStatus.Internal
+    private synchronized void prefetchNeighbourPages(int currentPage, int totalPages) {
+        int currentPageIndex = currentPage - 1;
+        for (int distance = 1; distance <= prefetchPages; distance++) {
+            int nextPageIndex = currentPageIndex + distance;
+            if (nextPageIndex < totalPages && !pageCache.containsKey(nextPageIndex)) {
+                fetchPage(nextPageIndex);
+            }
+            int previousPageIndex = currentPageIndex - distance;
+            if (previousPageIndex >= 0 && !pageCache.containsKey(previousPageIndex)) {
+                fetchPage(previousPageIndex);
+            }
+        }
+    }
+
+    @ApiStatus.Internal
+    private synchronized void fetchPage(int pageIndex) {
+        FetchFailure failure = failedPages.get(pageIndex);
+        if (failure != null && !failure.isRetryDue()) {
+            return;
+        }
+        if (!pendingPages.add(pageIndex)) {
+            return;
+        }
+        long fetchGeneration = generation;
+        int limit = getMaximumItemsPerPage();
+        dataSource.fetch(pageIndex * limit, limit).whenComplete((page, exception) -> {
+            synchronized (this) {
+                if (fetchGeneration != generation) {
+                    return;
+                }
+                pendingPages.remove(pageIndex);
+                if (exception != null) {
+                    log.error("Couldn't fetch page {} of lazy pagination {}:", pageIndex, getId(), exception);
+                    failedPages.computeIfAbsent(pageIndex, key -> new FetchFailure()).recordFailure();
+                    return;
+                }
+                failedPages.remove(pageIndex);
+                pageCache.put(pageIndex, List.copyOf(page));
+            }
+            // Only the views displaying the page are rebuilt,
+            // prefetched pages don't need to be displayed yet.
+            scheduleRebuild(false, pageIndex);
+        });
+    }
+
+    @ApiStatus.Internal
+    private synchronized void fetchCount() {
+        if (countPending) {
+            return;
+        }
+        if (countFailure != null && !countFailure.isRetryDue()) {
+            return;
+        }
+        countPending = true;
+        long fetchGeneration = generation;
+        dataSource.count().whenComplete((count, exception) -> {
+            synchronized (this) {
+                if (fetchGeneration != generation) {
+                    return;
+                }
+                countPending = false;
+                if (exception != null) {
+                    log.error("Couldn't count items of lazy pagination {}:", getId(), exception);
+                    if (countFailure == null) {
+                        countFailure = new FetchFailure();
+                    }
+                    countFailure.recordFailure();
+                    return;
+                }
+                countFailure = null;
+                totalItems = Math.max(0, count);
+            }
+            // The count changes the total pages, which are probably displayed by other components.
+            scheduleRebuild(true, -1);
+        });
+    }
+
+    @ApiStatus.Internal
+    private void scheduleRebuild(boolean fullRebuild, int pageIndex) {
+        List<PlayerView> viewerList;
+        synchronized (this) {
+            viewerList = List.copyOf(viewers);
+        }
+        // Fetches complete on any thread, so the views get rebuilt on the next tick.
+        MinecraftServer.getSchedulerManager().scheduleNextTick(() -> {
+            for (PlayerView playerView : viewerList) {
+                synchronized (this) {
+                    // The view was closed in the meantime.
+                    if (!viewers.contains(playerView)) {
+                        continue;
+                    }
+                }
+                if (fullRebuild) {
+                    playerView.executeRebuild();
+                    continue;
+                }
+                // The current page is read on the tick, because the view state isn't thread-safe.
+                if (Math.max(1, getCurrentPage(playerView)) - 1 != pageIndex) {
+                    continue;
+                }
+                invalidate(playerView);
+            }
+        });
+    }
+
+    /**
+     * The consecutive failures of a fetch, which delay the next fetch exponentially.
+     * Only accessed while holding the lock of the pagination.
+     */
+    private static final class FetchFailure {
+
+        int attempts;
+        long retryAtNanos;
+
+        void recordFailure() {
+            attempts++;
+            // Doubled on every failure, capped at the maximum delay.
+            int shift = Math.min(attempts - 1, 30);
+            long delayNanos = Math.min(MAXIMUM_RETRY_DELAY_NANOS, INITIAL_RETRY_DELAY_NANOS << shift);
+            retryAtNanos = System.nanoTime() + delayNanos;
+        }
+
+        boolean isRetryDue() {
+            return System.nanoTime() - retryAtNanos >= 0;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.List;
 
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
@@ -26,7 +27,7 @@ public final class PageComponent<T> extends AbstractPaginationComponent<T> {
         if (slotList.isEmpty()) {
             throw new IllegalArgumentException("slotList is empty!");
         }
-        this.slotList = slotList;
+        this.slotList = List.copyOf(slotList);
     }
 
     @Override
@@ -35,7 +36,12 @@ public final class PageComponent<T> extends AbstractPaginationComponent<T> {
     }
 
     @Override
-    void renderCurrentPage(@NotNull PlayerView playerView, int maxItemsPerPage) {
+    public @NotNull Collection<Integer> getOwnedSlots(@NotNull PlayerView view) {
+        return slotList;
+    }
+
+    @Override
+    void renderPage(@NotNull PlayerView playerView, int maxItemsPerPage, int currentPage) {
         // Clean up the previous mess.
         for (Integer itemSlot : slotList) {
             ViewItem.bySlot(playerView, itemSlot).material(Material.AIR);
@@ -43,11 +49,12 @@ public final class PageComponent<T> extends AbstractPaginationComponent<T> {
         // Do not render if we have no to display items.
         int totalItems = getTotalFilteredItems();
         if (currentPage == 0 || totalItems == 0) {
+            cancelPendingRender(playerView);
             return;
         }
 
         // Sets the items of the current page.
         List<T> currentPageItemList = getPageByNumber(currentPage);
-        updatePageBySlots(playerView, maxItemsPerPage, currentPageItemList, slotList);
+        renderPageItems(playerView, currentPageItemList, slotList);
     }
 }
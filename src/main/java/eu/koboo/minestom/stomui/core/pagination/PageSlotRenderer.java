@@ -0,0 +1,149 @@
+package eu.koboo.minestom.stomui.core.pagination;
+
+import eu.koboo.minestom.stomui.api.PlayerView;
+import eu.koboo.minestom.stomui.api.item.PrebuiltItem;
+import eu.koboo.minestom.stomui.api.item.ViewItem;
+import eu.koboo.minestom.stomui.api.pagination.ItemRenderer;
+import eu.koboo.minestom.stomui.api.state.IntStateKey;
+import eu.koboo.minestom.stomui.core.CorePlayerView;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.item.ItemStack;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Renders the items of a page into the slots of a {@link PlayerView}
+ * by {@link ItemRenderer#renderPage(List)}, used by all pagination components.
+ * <p>
+ * If the renderer completes immediately, the items are applied directly.
+ * Otherwise, the placeholder item is displayed and the items are applied on the tick after the completion.
+ * Every render increments the render revision of the view, so completions of
+ * previously rendered pages are dropped, if the player switched the page in the meantime.
+ * If the renderer fails, the slots display the filler item instead of the placeholder item.
+ */
+@Slf4j
+@UtilityClass
+@ApiStatus.Internal
+class PageSlotRenderer {
+
+    /**
+     * Renders the given items into the given slots. All slots without an item display the filler item.
+     *
+     * @param playerView        The {@link PlayerView}, which gets rendered.
+     * @param paginationId      The id of the pagination, only used for logging.
+     * @param itemRenderer      The {@link ItemRenderer} of the pagination.
+     * @param renderRevisionKey The key of the render revision of the pagination.
+     * @param pageItemList      The items of the page, needs to be smaller or equal to the count of slots.
+     * @param slotList          The slots of the page, in the order of the items.
+     * @param fillerItem        The item, which is displayed in the slots without an item.
+     * @param placeholderItem   The item, which is displayed in the slots until the items are rendered.
+     * @param <T>               The type of the items of the pagination.
+     */
+    <T> void render(@NotNull PlayerView playerView,
+                    @NotNull String paginationId,
+                    @NotNull ItemRenderer<T> itemRenderer,
+                    @NotNull IntStateKey renderRevisionKey,
+                    @NotNull List<T> pageItemList,
+                    @NotNull List<Integer> slotList,
+                    @NotNull ItemStack fillerItem,
+                    @NotNull ItemStack placeholderItem) {
+        // Every render replaces the previous render, even if the previous one isn't completed yet.
+        int renderRevision = playerView.getState().add(renderRevisionKey, 1);
+        if (pageItemList.isEmpty()) {
+            applyItems(playerView, List.of(), slotList, fillerItem);
+            return;
+        }
+        CompletableFuture<List<PrebuiltItem>> renderFuture;
+        try {
+            renderFuture = itemRenderer.renderPage(pageItemList);
+        } catch (RuntimeException e) {
+            renderFuture = CompletableFuture.failedFuture(e);
+        }
+        if (renderFuture.isDone() && !renderFuture.isCompletedExceptionally()) {
+            applyItems(playerView, renderFuture.join(), slotList, fillerItem);
+            return;
+        }
+
+        // The placeholders also replace the interactions of the previous page.
+        PrebuiltItem placeholder = PrebuiltItem.of(placeholderItem);
+        for (int pageItemIndex = 0; pageItemIndex < slotList.size(); pageItemIndex++) {
+            ViewItem viewItem = ViewItem.bySlot(playerView, slotList.get(pageItemIndex));
+            if (pageItemIndex < pageItemList.size()) {
+                viewItem.applyPrebuilt(placeholder);
+                continue;
+            }
+            viewItem.item(fillerItem);
+        }
+        renderFuture.whenComplete((prebuiltItemList, exception) -> {
+            if (exception != null) {
+                log.error("Couldn't render page of pagination {}:", paginationId, exception);
+                // The placeholders are replaced by the filler item, so they aren't displayed forever.
+                applyOnNextTick(playerView, renderRevisionKey, renderRevision, List.of(), slotList, fillerItem);
+                return;
+            }
+            applyOnNextTick(playerView, renderRevisionKey, renderRevision, prebuiltItemList, slotList, fillerItem);
+        });
+    }
+
+    /**
+     * Renders complete on any thread, so the items are applied on the next tick,
+     * if the view still displays the render of the given revision.
+     */
+    private void applyOnNextTick(@NotNull PlayerView playerView,
+                                 @NotNull IntStateKey renderRevisionKey,
+                                 int renderRevision,
+                                 @NotNull List<PrebuiltItem> prebuiltItemList,
+                                 @NotNull List<Integer> slotList,
+                                 @NotNull ItemStack fillerItem) {
+        MinecraftServer.getSchedulerManager().scheduleNextTick(() -> {
+            // The view was closed in the meantime.
+            if (playerView.getRegistry().getCurrentView(playerView.getPlayer()) != playerView) {
+                return;
+            }
+            // The page was switched or rendered again in the meantime.
+            if (playerView.getState().get(renderRevisionKey) != renderRevision) {
+                return;
+            }
+            // Outside of a rebuild, so the items are collected into the shadow buffer
+            // and sent with a single flush instead of a packet per slot.
+            CorePlayerView corePlayerView = (CorePlayerView) playerView;
+            corePlayerView.beginUpdate();
+            try {
+                applyItems(playerView, prebuiltItemList, slotList, fillerItem);
+            } finally {
+                corePlayerView.flushUpdate();
+            }
+        });
+    }
+
+    /**
+     * Drops the pending render of the given view, e.g. if the page is cleared without rendering any items.
+     *
+     * @param playerView        The {@link PlayerView} of the pending render.
+     * @param renderRevisionKey The key of the render revision of the pagination.
+     */
+    void cancel(@NotNull PlayerView playerView, @NotNull IntStateKey renderRevisionKey) {
+        playerView.getState().add(renderRevisionKey, 1);
+    }
+
+    private void applyItems(@NotNull PlayerView playerView,
+                            @NotNull List<PrebuiltItem> prebuiltItemList,
+                            @NotNull List<Integer> slotList,
+                            @NotNull ItemStack fillerItem) {
+        for (int pageItemIndex = 0; pageItemIndex < slotList.size(); pageItemIndex++) {
+            ViewItem viewItem = ViewItem.bySlot(playerView, slotList.get(pageItemIndex));
+            PrebuiltItem prebuiltItem = pageItemIndex < prebuiltItemList.size() ? prebuiltItemList.get(pageItemIndex) : null;
+            if (prebuiltItem != null) {
+                viewItem.applyPrebuilt(prebuiltItem);
+                continue;
+            }
+            // No item, fill up.
+            viewItem.item(fillerItem);
+        }
+    }
+}
@@ -11,6 +11,8 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
@@ -18,6 +20,8 @@ import java.util.List;
 public final class ScrollComponent<T> extends AbstractPaginationComponent<T> {
 
     List<List<Integer>> listOfSlotLists;
+    // All slots of all slotLists, owned by this component.
+    List<Integer> ownedSlots;
 
     public ScrollComponent(@NotNull ItemRenderer<T> itemRenderer,
                            @Nullable ItemStack fillerItem,
@@ -42,6 +46,11 @@ public final class ScrollComponent<T> extends AbstractPaginationComponent<T> {
             }
         }
         this.listOfSlotLists = listOfSlotLists;
+        List<Integer> ownedSlots = new ArrayList<>();
+        for (List<Integer> slotList : listOfSlotLists) {
+            ownedSlots.addAll(slotList);
+        }
+        this.ownedSlots = List.copyOf(ownedSlots);
     }
 
     @Override
@@ -50,25 +59,41 @@ public final class ScrollComponent<T> extends AbstractPaginationComponent<T> {
     }
 
     @Override
-    void renderCurrentPage(@NotNull PlayerView playerView, int maxItemsPerPage) {
-        // We treat every slotList as an individual page.
-        // So we keep track of the previously rendered pages.
-        int scrollPageTracker = currentPage;
+    public @NotNull Collection<Integer> getOwnedSlots(@NotNull PlayerView view) {
+        return ownedSlots;
+    }
+
+    @Override
+    void renderPage(@NotNull PlayerView playerView, int maxItemsPerPage, int currentPage) {
+        // Clean up the previous items.
         for (List<Integer> slotList : listOfSlotLists) {
-            // Clean up the previous items.
             for (Integer itemSlot : slotList) {
                 ViewItem.bySlot(playerView, itemSlot).material(Material.AIR);
             }
-            // Do not render if we have no to display items.
-            int totalItems = getTotalFilteredItems();
-            if (currentPage == 0 || totalItems == 0) {
-                continue;
-            }
+        }
+        // Do not render if we have no to display items.
+        int totalItems = getTotalFilteredItems();
+        if (currentPage == 0 || totalItems == 0) {
+            cancelPendingRender(playerView);
+            return;
+        }
 
-            // Sets the items of the current page.
-            List<T> currentPageItemList = getPageByNumber(scrollPageTracker);
-            updatePageBySlots(playerView, maxItemsPerPage, currentPageItemList, slotList);
+        // We treat every slotList as an individual page,
+        // but all visible pages are rendered at once.
+        int totalPages = getTotalPages();
+        List<T> visibleItemList = new ArrayList<>();
+        List<Integer> visibleSlotList = new ArrayList<>();
+        int scrollPageTracker = currentPage;
+        for (List<Integer> slotList : listOfSlotLists) {
+            if (scrollPageTracker > totalPages) {
+                break;
+            }
+            // Only the last page can be smaller than its slotList,
+            // so the items stay aligned with their slots.
+            visibleItemList.addAll(getPageByNumber(scrollPageTracker));
+            visibleSlotList.addAll(slotList);
             scrollPageTracker += 1;
         }
+        renderPageItems(playerView, visibleItemList, visibleSlotList);
     }
 }